@@ -0,0 +1,254 @@
+package utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Genera clases Java tipadas (records) a partir de las secciones del archivo config.json.
+ *
+ * <p>
+ * Por cada objeto de primer nivel (excepto "tests", que es consumido por {@link TestNGXmlGenerator}) se genera
+ * un record con un componente por cada clave, y un record raíz {@code Configuration} que agrupa todas las
+ * secciones. Los objetos anidados se generan como records anidados y los arreglos como listas inmutables.
+ * De esta forma, un error en el nombre de una clave se detecta al compilar y no durante la ejecución.
+ * </p>
+ *
+ * <p>
+ * El tipo de cada valor no se deduce del literal JSON (un {@code 2} escrito donde se espera un decimal generaría un
+ * {@code int}), sino que se declara en configuration/config-types.json, con la ruta de la clave separada por puntos
+ * y uno de los tipos de {@link #FIELD_TYPES}, por ejemplo {@code "webDriverConfiguration.waits.backoffFactor":
+ * "double"}. La generación falla si un valor no tiene tipo declarado, si no corresponde a su tipo o si se declara
+ * una clave que no existe.
+ * </p>
+ *
+ * <p>
+ * Se ejecuta automáticamente en la fase generate-test-sources de Maven; también puede ejecutarse a mano:
+ * </p>
+ * <pre>
+ * mvn exec:java "-Dexec.mainClass=utils.ConfigClassGenerator"
+ * </pre>
+ */
+public class ConfigClassGenerator {
+
+    /**
+     * Tipo declarable de un valor: el tipo del componente, la expresión que lo lee del nodo ({@code %s}) y los
+     * valores JSON que admite.
+     */
+    private record FieldType(String javaType, String reader, Predicate<JsonNode> accepts) {
+    }
+
+    private static final Map<String, FieldType> FIELD_TYPES = Map.of(
+            "boolean", new FieldType("boolean", "%s.asBoolean()", JsonNode::isBoolean),
+            "int", new FieldType("int", "%s.asInt()", value -> value.isIntegralNumber() && value.canConvertToInt()),
+            "long", new FieldType("long", "%s.asLong()", value -> value.isIntegralNumber() && value.canConvertToLong()),
+            "double", new FieldType("double", "%s.asDouble()", JsonNode::isNumber),
+            "String", new FieldType("String", "%s.asText()", JsonNode::isTextual),
+            "List<String>", new FieldType("java.util.List<String>",
+                    "java.util.stream.StreamSupport.stream(%s.spliterator(), false).map(JsonNode::asText).toList()",
+                    value -> value.isArray() && all(value, JsonNode::isTextual)),
+            "List<Integer>", new FieldType("java.util.List<Integer>",
+                    "java.util.stream.StreamSupport.stream(%s.spliterator(), false).map(JsonNode::asInt).toList()",
+                    value -> value.isArray() && all(value, element -> element.isIntegralNumber()
+                            && element.canConvertToInt())));
+
+    private static final String DEFAULT_SOURCE = "configuration/config.json";
+    private static final String DEFAULT_TYPES = "configuration/config-types.json";
+    private static final String DEFAULT_OUTPUT = "target/generated-test-sources/config";
+    private static final String PACKAGE = "pom.general_repository.config";
+    private static final String ROOT_TYPE = "Configuration";
+    private static final Set<String> EXCLUDED_SECTIONS = Set.of("tests");
+    private static final Set<String> KEYWORDS = Set.of("abstract", "assert", "boolean", "break", "byte", "case",
+            "catch", "char", "class", "const", "continue", "default", "do", "double", "else", "enum", "extends",
+            "final", "finally", "float", "for", "goto", "if", "implements", "import", "instanceof", "int",
+            "interface", "long", "native", "new", "package", "private", "protected", "public", "return", "short",
+            "static", "strictfp", "super", "switch", "synchronized", "this", "throw", "throws", "transient", "try",
+            "void", "volatile", "while", "record", "var", "yield");
+
+    public static void main(String[] args) throws IOException {
+        // Ruta del JSON de configuración, directorio raíz de las fuentes generadas y ruta de los tipos declarados
+        String jsonPath = args.length > 0 ? args[0] : DEFAULT_SOURCE;
+        Path outputRoot = Paths.get(args.length > 1 ? args[1] : DEFAULT_OUTPUT);
+        String typesPath = args.length > 2 ? args[2] : DEFAULT_TYPES;
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode root = mapper.readTree(Paths.get(jsonPath).toFile());
+        if (root == null || !root.isObject()) {
+            throw new IOException("El archivo de configuración no es un objeto JSON: " + jsonPath);
+        }
+        Map<String, String> types = new HashMap<>(mapper.readValue(Paths.get(typesPath).toFile(),
+                new TypeReference<Map<String, String>>() {
+                }));
+
+        Path packageDir = outputRoot.resolve(PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDir);
+
+        List<String[]> sections = new ArrayList<>();
+
+        for (Map.Entry<String, JsonNode> section : root.properties()) {
+            if (EXCLUDED_SECTIONS.contains(section.getKey()) || !section.getValue().isObject()) continue;
+
+            String type = capitalize(identifier(section.getKey()));
+            sections.add(new String[]{section.getKey(), type});
+
+            StringBuilder java = new StringBuilder();
+            header(java);
+            record(java, section.getKey(), section.getKey(), type, section.getValue(), "", true, types);
+            write(packageDir.resolve(type + ".java"), java);
+        }
+
+        // Cada clave usada se retira del mapa, por lo que las restantes no existen en config.json
+        if (!types.isEmpty()) {
+            throw new IOException("Tipos declarados para claves que no existen en " + jsonPath + ": "
+                    + new TreeSet<>(types.keySet()));
+        }
+
+        StringBuilder java = new StringBuilder();
+        header(java);
+        java.append("/**\n");
+        java.append(" * Secciones tipadas del archivo de configuración.\n");
+        java.append(" * Generado por {@code utils.ConfigClassGenerator} a partir de config.json; no editar.\n");
+        java.append(" */\n");
+        java.append("public record ").append(ROOT_TYPE).append("(");
+        for (int i = 0; i < sections.size(); i++) {
+            if (i > 0) java.append(", ");
+            java.append(sections.get(i)[1]).append(' ').append(identifier(sections.get(i)[0]));
+        }
+        java.append(") {\n\n");
+        java.append("    public static ").append(ROOT_TYPE).append(" from(JsonNode node) {\n");
+        java.append("        return new ").append(ROOT_TYPE).append("(");
+        for (int i = 0; i < sections.size(); i++) {
+            java.append(i > 0 ? ",\n                " : "\n                ");
+            java.append(sections.get(i)[1]).append(".from(node.path(\"").append(sections.get(i)[0]).append("\"))");
+        }
+        java.append(");\n");
+        java.append("    }\n");
+        java.append("}\n");
+        write(packageDir.resolve(ROOT_TYPE + ".java"), java);
+    }
+
+    private static void header(StringBuilder java) {
+        java.append("package ").append(PACKAGE).append(";\n\n");
+        java.append("import com.fasterxml.jackson.databind.JsonNode;\n\n");
+    }
+
+    /**
+     * Escribe un record con un componente por clave del objeto JSON y un método estático {@code from}. El tipo de
+     * cada valor se toma de los tipos declarados, retirando su ruta del mapa.
+     */
+    private static void record(StringBuilder java, String key, String jsonPath, String type, JsonNode node,
+                               String indent, boolean topLevel, Map<String, String> types) throws IOException {
+        List<String> components = new ArrayList<>();
+        List<String> readers = new ArrayList<>();
+        List<String[]> nested = new ArrayList<>();
+
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+            String name = identifier(field.getKey());
+            String path = "node.path(\"" + field.getKey().replace("\"", "\\\"") + "\")";
+            String fieldPath = jsonPath + "." + field.getKey();
+            JsonNode value = field.getValue();
+
+            if (value.isObject()) {
+                String nestedType = capitalize(name);
+                nested.add(new String[]{field.getKey(), nestedType});
+                components.add(nestedType + " " + name);
+                readers.add(nestedType + ".from(" + path + ")");
+                continue;
+            }
+
+            String declared = types.remove(fieldPath);
+            if (declared == null) {
+                throw new IOException("Falta declarar en config-types.json el tipo de \"" + fieldPath + "\"");
+            }
+            FieldType fieldType = FIELD_TYPES.get(declared);
+            if (fieldType == null) {
+                throw new IOException("Tipo desconocido \"" + declared + "\" para \"" + fieldPath
+                        + "\"; se admiten: " + new TreeSet<>(FIELD_TYPES.keySet()));
+            }
+            if (!fieldType.accepts().test(value)) {
+                throw new IOException("El valor de \"" + fieldPath + "\" no es de tipo " + declared + ": " + value);
+            }
+            components.add(fieldType.javaType() + " " + name);
+            readers.add(String.format(fieldType.reader(), path));
+        }
+
+        java.append(indent).append("/**\n");
+        java.append(indent).append(" * Sección \"").append(key).append("\" del archivo de configuración.\n");
+        if (topLevel) {
+            java.append(indent)
+                    .append(" * Generado por {@code utils.ConfigClassGenerator} a partir de config.json; no editar.\n");
+        }
+        java.append(indent).append(" */\n");
+        java.append(indent).append("public record ").append(type).append("(");
+        java.append(String.join(", ", components));
+        java.append(") {\n\n");
+
+        java.append(indent).append("    public static ").append(type).append(" from(JsonNode node) {\n");
+        java.append(indent).append("        return new ").append(type).append("(");
+        for (int i = 0; i < readers.size(); i++) {
+            java.append(i > 0 ? "," : "").append("\n").append(indent).append("                ").append(readers.get(i));
+        }
+        java.append(");\n");
+        java.append(indent).append("    }\n");
+
+        for (String[] child : nested) {
+            java.append("\n");
+            record(java, child[0], jsonPath + "." + child[0], child[1], node.path(child[0]), indent + "    ", false,
+                    types);
+        }
+
+        java.append(indent).append("}\n");
+    }
+
+    private static void write(Path file, StringBuilder java) throws IOException {
+        byte[] content = java.toString().getBytes(StandardCharsets.UTF_8);
+        // Se evita reescribir archivos sin cambios para no forzar recompilaciones innecesarias
+        if (Files.exists(file) && Arrays.equals(Files.readAllBytes(file), content)) return;
+        Files.write(file, content);
+        System.out.println("Generado: " + file);
+    }
+
+    private static boolean all(JsonNode array, Predicate<JsonNode> condition) {
+        for (JsonNode element : array) {
+            if (!condition.test(element)) return false;
+        }
+        return true;
+    }
+
+    // Convierte una clave JSON en un identificador Java válido
+    private static String identifier(String key) {
+        StringBuilder name = new StringBuilder();
+        boolean upper = false;
+        for (char c : key.toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                name.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            } else {
+                upper = name.length() > 0;
+            }
+        }
+        if (name.length() == 0 || Character.isDigit(name.charAt(0))) name.insert(0, '_');
+        String result = name.toString();
+        return KEYWORDS.contains(result) ? result + "_" : result;
+    }
+
+    // Método para capitalizar la primera letra de una cadena
+    private static String capitalize(String str) {
+        if (str == null || str.isEmpty()) return str;
+        return str.substring(0, 1).toUpperCase() + str.substring(1);
+    }
+}
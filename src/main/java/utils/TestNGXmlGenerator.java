@@ -1,5 +1,6 @@
 package utils;
 
+import org.json.JSONArray;
 import org.json.JSONTokener;
 import org.json.JSONObject;
 
@@ -23,8 +24,12 @@ public class TestNGXmlGenerator {
             JSONObject configuracion = root.getJSONObject("webDriverConfiguration");
             JSONObject tests = root.getJSONObject("tests");
 
-            // Número de hilos para paralelismo en TestNG
+            // Número de hilos y modo de paralelismo en TestNG
             int threadCount = configuracion.optInt("threadCount", 1);
+            String parallel = configuracion.optString("parallel", "tests");
+
+            // Navegador de las pruebas: "Chrome", "ChromeHeadlessShell", "Edge" o "Firefox"
+            String navegador = configuracion.optString("browserType", "Chrome");
 
             // Rutas de directorios
             Path directorioSuites = Paths.get("src", "test", "resources", "suites");
@@ -62,29 +67,45 @@ public class TestNGXmlGenerator {
                 xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
                 xml.append("<!DOCTYPE suite SYSTEM \"http://testng.org/testng-1.0.dtd\">\n");
                 xml.append("<suite name=\"").append(suiteName)
-                        .append("\" parallel=\"tests\" thread-count=\"").append(threadCount).append("\">\n\n");
+                        .append("\" parallel=\"").append(parallel)
+                        .append("\" thread-count=\"").append(threadCount).append("\">\n\n");
+
+                // Reglas de bloqueo de red de la suite, aplicadas por pom.driver.NetworkBlocker; con el bloqueo
+                // desactivado, las solicitudes de la lista de bloqueo solo se miden
+                JSONObject bloqueo = seccion.optJSONObject("networkBlocking");
+                if (bloqueo != null) {
+                    xml.append("    <parameter name=\"BlockedUrls\" value=\"")
+                            .append(patrones(bloqueo.optJSONArray("blocklist"))).append("\"/>\n");
+                    xml.append("    <parameter name=\"AllowedUrls\" value=\"")
+                            .append(patrones(bloqueo.optJSONArray("allowlist"))).append("\"/>\n");
+                    xml.append("    <parameter name=\"NetworkBlocking\" value=\"")
+                            .append(bloqueo.optBoolean("enabled", false)).append("\"/>\n\n");
+                }
 
-                String testSuite = "pom.auto.test.Test_";
+                String testSuite = "pom.auto.test.Test_" + capitalize(modulo);
 
+                // Flujos activos del módulo (nombre del método y nombre del flujo)
+                List<String[]> flujos = new ArrayList<>();
                 for (String flujo : seccion.keySet()) {
-                    if (flujo.equals("active") || flujo.equals("suiteName")) continue;
+                    if (flujo.equals("active") || flujo.equals("suiteName") || flujo.equals("networkBlocking")) continue;
 
                     JSONObject datosFlujo = seccion.optJSONObject(flujo);
                     if (datosFlujo != null && datosFlujo.optBoolean("active", false)) {
-                        String nombre = datosFlujo.optString("name", flujo);
-
-                        xml.append("    <test name=\"").append(nombre).append("\">\n");
-                        xml.append("        <parameter name=\"BrowserType\" value=\"Chrome\"/>\n");
-                        xml.append("        <parameter name=\"TestType\" value=\"NormalTest\"></parameter>\n");
-                        xml.append("        <classes>\n");
-                        xml.append("            <class name=\"").append(testSuite)
-                                .append(capitalize(modulo)).append("\">\n");
-                        xml.append("                <methods>\n");
-                        xml.append("                    <include name=\"").append(flujo).append("\"/>\n");
-                        xml.append("                </methods>\n");
-                        xml.append("            </class>\n");
-                        xml.append("        </classes>\n");
-                        xml.append("    </test>\n\n");
+                        flujos.add(new String[]{flujo, datosFlujo.optString("name", flujo)});
+                    }
+                }
+
+                if (parallel.equals("methods")) {
+                    // Un solo <test> con todos los flujos, que TestNG ejecuta en paralelo dentro de la misma clase
+                    List<String> metodos = new ArrayList<>();
+                    for (String[] flujo : flujos) {
+                        metodos.add(flujo[0]);
+                    }
+                    test(xml, suiteName, testSuite, metodos, navegador);
+                } else {
+                    // Un <test> por flujo
+                    for (String[] flujo : flujos) {
+                        test(xml, flujo[1], testSuite, List.of(flujo[0]), navegador);
                     }
                 }
 
@@ -118,6 +139,33 @@ public class TestNGXmlGenerator {
         }
     }
 
+    // Agrega un <test> que ejecuta los métodos indicados de la clase de pruebas del módulo en el navegador indicado
+    private static void test(StringBuilder xml, String nombre, String clase, List<String> metodos, String navegador) {
+        xml.append("    <test name=\"").append(nombre).append("\">\n");
+        xml.append("        <parameter name=\"BrowserType\" value=\"").append(navegador).append("\"/>\n");
+        xml.append("        <parameter name=\"TestType\" value=\"NormalTest\"></parameter>\n");
+        xml.append("        <classes>\n");
+        xml.append("            <class name=\"").append(clase).append("\">\n");
+        xml.append("                <methods>\n");
+        for (String metodo : metodos) {
+            xml.append("                    <include name=\"").append(metodo).append("\"/>\n");
+        }
+        xml.append("                </methods>\n");
+        xml.append("            </class>\n");
+        xml.append("        </classes>\n");
+        xml.append("    </test>\n\n");
+    }
+
+    // Une los patrones de una lista JSON separados por coma, escapando los caracteres especiales de XML
+    private static String patrones(JSONArray lista) {
+        if (lista == null) return "";
+        List<String> valores = new ArrayList<>();
+        for (int i = 0; i < lista.length(); i++) {
+            valores.add(lista.optString(i).replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;"));
+        }
+        return String.join(",", valores);
+    }
+
     // Método para capitalizar la primera letra de una cadena
     private static String capitalize(String str) {
         if (str == null || str.isEmpty()) return str;
@@ -1,7 +1,5 @@
 package pom;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.qameta.allure.restassured.AllureRestAssured;
 import org.apache.commons.io.FileUtils;
 import org.json.simple.JSONObject;
@@ -12,12 +10,28 @@ import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.firefox.FirefoxProfile;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
 import org.openqa.selenium.support.ui.*;
 
 import io.qameta.allure.Allure;
 import org.testng.Assert;
+import pom.driver.DriverFactory;
+import pom.driver.GridCapacity;
+import pom.driver.NetworkBlocker;
+import pom.driver.NetworkIdle;
+import pom.driver.ProfileTemplate;
 import pom.general_repository.*;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.general_repository.config.WebDriverConfiguration;
+import pom.wait.AdaptiveWait;
+import pom.wait.AppStability;
+import pom.wait.DomWait;
+import pom.wait.ElementState;
+import pom.wait.LearnedTimeouts;
+import pom.wait.LocatorTelemetry;
 import utils.Log;
+import utils.RutBulkGenerator;
 
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -32,9 +46,12 @@ import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
@@ -42,6 +59,13 @@ import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Clase base que contiene todas las funciones y métodos a utilizar en la automatización.
@@ -57,53 +81,20 @@ public class Base {
      * encontrar elementos y automatizar interacciones en páginas web.
      * </p>
      */
-    public WebDriver driver;
+    private WebDriver driver;
 
     /**
-     * Fecha actual utilizada en el programa.
-     * Esta variable estática puede ser compartida entre todas las instancias de la clase.
-     * Es una representación en formato de cadena de caracteres (String).
-     *
-     * <p>Ejemplo de uso:</p>
-     * <pre>
-     * {@code
-     * Base.date = "2025-03-31";
-     * System.out.println(Base.date);
-     * }
-     * </pre>
-     */
-    public static String date;
-
-    /**
-     * Nombre del caso de prueba en ejecución.
-     * Esta variable estática almacena el nombre del test actual para facilitar
-     * la identificación y el seguimiento durante la ejecución de las pruebas automatizadas.
-     *
-     * <p>Ejemplo de uso:</p>
-     * <pre>
-     * {@code
-     * testName.set("Nombre de la prueba");
-     * System.out.println("Ejecutando: " + testName.get());
-     * }
-     * </pre>
+     * Sesión de WebDriver que aún se está iniciando en segundo plano; se resuelve en {@link #getDriver()}. Si su
+     * inicio falla, se conserva para que cada llamada a {@link #getDriver()} informe el mismo error.
      */
-    public static ThreadLocal<String> testName = ThreadLocal.withInitial(() -> "Default Test Name");
+    private CompletableFuture<WebDriver> pendingDriver;
 
     /**
-     * Nombre del navegador utilizado para la ejecución de pruebas automatizadas.
-     * Esta variable estática permite identificar qué navegador está en uso
-     * (por ejemplo, Chrome, Firefox o Edge) y facilita la configuración dinámica
-     * basada en el navegador seleccionado.
-     *
-     * <p>Ejemplo de uso:</p>
-     * <pre>
-     * {@code
-     * Base.browser = "Firefox";
-     * System.out.println("Navegador en uso: " + Base.browser);
-     * }
-     * </pre>
+     * Elementos encontrados en la página actual, por localizador (ver {@link #withElement(By, Function)}). Se
+     * vacía al navegar, al cambiar de ventana, después de un clic o de enviar un formulario con Enter y después de
+     * esperar a que la aplicación quede inactiva; una referencia obsoleta se descarta al usarla.
      */
-    public static String browser;
+    private final Map<By, WebElement> elements = new HashMap<>();
 
     /**
      * Constructor de la clase Base.
@@ -124,229 +115,207 @@ public class Base {
     }
 
     /**
-     * Establece la conexión con el WebDriver de Firefox.
+     * Constructor de la clase Base a partir de una sesión que aún se está iniciando.
+     * El driver se espera recién la primera vez que se necesita (ver {@link #getDriver()}).
+     *
+     * @param driver sesión de WebDriver en proceso de inicio, por ejemplo la entregada por
+     *               {@link pom.driver.DriverFactory#start(String)}.
+     */
+    public Base(CompletableFuture<WebDriver> driver) {
+        this.pendingDriver = driver;
+    }
+
+    /**
+     * Retorna el driver de la sesión, esperando a que termine de iniciarse si aún está en proceso.
      * <p>
-     * Este método inicializa un nuevo objeto {@link FirefoxDriver}.
-     * Si la inicialización falla por alguna razón, el método captura las
-     * excepciones relevantes y registra el error correspondiente.
-     * En caso de que no se pueda crear el driver o se capture una
-     * {@link NullPointerException}, el método finaliza la sesión del driver.
+     * Los métodos de conexión ({@link #chromeDriverConnectionOptions(ChromeOptions)} y similares) no bloquean:
+     * inician el navegador en segundo plano mediante {@link DriverFactory}. La espera ocurre aquí, solo la
+     * primera vez que la prueba necesita el driver.
      * </p>
      *
-     * @throws AssertionError si no se puede crear el driver o si ocurre una excepción.
+     * @return el driver de la sesión.
+     * @throws AssertionError si no se pudo crear el driver, con el error original como causa; se lanza en cada
+     *                        llamada, no solo en la primera.
      *                        <p>
      *                        Registro de excepciones manejadas:
      *                        <ul>
      *                          <li>{@link SessionNotCreatedException}: Error al crear la sesión del driver.</li>
-     *                          <li>{@link NullPointerException}: Error inesperado al intentar inicializar el driver.</li>
+     *                          <li>{@link NullPointerException}: Error inesperado durante la inicialización del driver.</li>
      *                        </ul>
      */
-    public void firefoxDriverConnection() {
-        Log.info(LogInfo.LOG_FIREFOX_CONNECTION);
+    public WebDriver getDriver() {
+        if (driver == null && pendingDriver != null) {
+            try {
+                WebDriver created = pendingDriver.join();
+                Assert.assertNotNull(created, AssertInfo.ASSERT_DRIVER_NOT_NULL);
+                driver = created;
+                pendingDriver = null;
+                Log.info(LogInfo.LOG_WEBDRIVER_INIT);
+                NetworkBlocker.bind(driver);
+            } catch (CompletionException completionException) {
+                Throwable cause = completionException.getCause();
+                Log.error(cause.getMessage());
+                if (cause instanceof NullPointerException) {
+                    Assert.fail(AssertInfo.ASSERT_DRIVER_NULL_POINTER + cause.getMessage(), cause);
+                }
+                Assert.fail(AssertInfo.ASSERT_DRIVER_SESSION_NOT_CREATED + cause.getMessage(), cause);
+            }
+        }
+        return driver;
+    }
 
-        try {
-            driver = new FirefoxDriver();
-
-            Assert.assertNotNull(driver, AssertInfo.ASSERT_DRIVER_NOT_NULL);
-            Log.info(LogInfo.LOG_WEBDRIVER_INIT);
-        } catch (SessionNotCreatedException sessionNotCreatedException) {
-            Log.error(sessionNotCreatedException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_SESSION_NOT_CREATED +
-                    sessionNotCreatedException.getMessage());
-            quitDriver();
-        } catch (NullPointerException nullPointerException) {
-            Log.error(nullPointerException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_NULL_POINTER +
-                    nullPointerException.getMessage());
-            quitDriver();
+    /**
+     * Retorna la sesión de WebDriver sin esperar a que termine de iniciarse.
+     *
+     * @return la sesión, completada o en proceso de inicio; null si no se ha iniciado ninguna.
+     */
+    public CompletableFuture<WebDriver> getDriverAsync() {
+        if (driver != null) {
+            return CompletableFuture.completedFuture(driver);
         }
+        return pendingDriver;
+    }
+
+    /**
+     * Inicia el navegador en segundo plano y deja la sesión pendiente hasta {@link #getDriver()}.
+     */
+    private void startDriver(String browserName, Supplier<WebDriver> creator) {
+        this.driver = null;
+        this.pendingDriver = DriverFactory.launch(browserName, creator);
+    }
+
+    /**
+     * Prepara una sesión de Chrome o Edge recién creada: le aplica las reglas de bloqueo de red de la suite y
+     * comienza a registrar sus solicitudes para {@link #waitForNetworkIdle()}.
+     */
+    private static WebDriver instrument(WebDriver driver) {
+        return NetworkIdle.track(NetworkBlocker.apply(driver));
+    }
+
+    /**
+     * Establece la conexión con el WebDriver de Firefox.
+     * <p>
+     * Este método inicia en segundo plano un nuevo objeto {@link FirefoxDriver} y retorna de inmediato.
+     * La prueba espera la sesión la primera vez que la utiliza, mediante {@link #getDriver()}, donde se
+     * manejan los errores de inicialización.
+     * </p>
+     */
+    public void firefoxDriverConnection() {
+        Log.info(LogInfo.LOG_FIREFOX_CONNECTION);
+        startDriver(Data.DATA_BROWSER_FIREFOX, FirefoxDriver::new);
     }
 
     /**
      * Establece la conexión personalizada con el WebDriver de Firefox usando {@link FirefoxOptions}.
      * <p>
-     * Este método permite inicializar un nuevo objeto {@link FirefoxDriver}
-     * con configuraciones específicas proporcionadas en un objeto de {@link FirefoxOptions}.
-     * En caso de que ocurran errores durante la inicialización, se manejan las excepciones y se registra
-     * el mensaje de error correspondiente. Si no se puede crear el driver o se captura una
-     * {@link NullPointerException}, el método finaliza la sesión del driver.
+     * Este método inicia en segundo plano un nuevo objeto {@link FirefoxDriver} con las configuraciones
+     * proporcionadas y retorna de inmediato. La prueba espera la sesión la primera vez que la utiliza,
+     * mediante {@link #getDriver()}, donde se manejan los errores de inicialización.
      * </p>
      *
      * @param options Configuraciones personalizadas para el {@link FirefoxDriver}.
-     * @throws AssertionError si no se puede crear el driver o si ocurre una excepción.
-     *                        <p>
-     *                        Registro de excepciones manejadas:
-     *                        <ul>
-     *                          <li>{@link SessionNotCreatedException}: Error al crear la sesión del driver.</li>
-     *                          <li>{@link NullPointerException}: Error inesperado durante la inicialización del driver.</li>
-     *                        </ul>
      */
     public void firefoxDriverConnectionOptions(FirefoxOptions options) {
         Log.info(LogInfo.LOG_FIREFOX_CUSTOM_CONNECTION);
-
-        try {
-            driver = new FirefoxDriver(options);
-            Assert.assertNotNull(driver, AssertInfo.ASSERT_DRIVER_NOT_NULL);
-            Log.info(LogInfo.LOG_WEBDRIVER_INIT);
-        } catch (SessionNotCreatedException sessionNotCreatedException) {
-            Log.error(sessionNotCreatedException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_SESSION_NOT_CREATED +
-                    sessionNotCreatedException.getMessage());
-            quitDriver();
-        } catch (NullPointerException nullPointerException) {
-            Log.error(nullPointerException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_NULL_POINTER +
-                    nullPointerException.getMessage());
-            quitDriver();
-        }
+        startDriver(Data.DATA_BROWSER_FIREFOX, () -> new FirefoxDriver(options));
     }
 
     /**
      * Establece la conexión con el WebDriver de Chrome.
      * <p>
-     * Este método inicializa un nuevo objeto {@link ChromeDriver}.
-     * Si la inicialización falla, captura las excepciones relevantes, registra el error
-     * correspondiente y, si es necesario, finaliza la sesión del driver.
+     * Este método inicia en segundo plano un nuevo objeto {@link ChromeDriver} y retorna de inmediato.
+     * La prueba espera la sesión la primera vez que la utiliza, mediante {@link #getDriver()}, donde se
+     * manejan los errores de inicialización.
      * </p>
-     *
-     * @throws AssertionError si no se puede crear el driver o si ocurre una excepción.
-     *                        <p>
-     *                        Registro de excepciones manejadas:
-     *                        <ul>
-     *                          <li>{@link SessionNotCreatedException}: Error al crear la sesión del driver.</li>
-     *                          <li>{@link NullPointerException}: Error inesperado durante la inicialización del driver.</li>
-     *                        </ul>
      */
     public void chromeDriverConnection() {
         Log.info(LogInfo.LOG_CHROME_CONNECTION);
-
-        try {
-            driver = new ChromeDriver();
-            Assert.assertNotNull(driver, AssertInfo.ASSERT_DRIVER_NOT_NULL);
-            Log.info(LogInfo.LOG_WEBDRIVER_INIT);
-        } catch (SessionNotCreatedException sessionNotCreatedException) {
-            Log.error(sessionNotCreatedException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_SESSION_NOT_CREATED +
-                    sessionNotCreatedException.getMessage());
-            quitDriver();
-        } catch (NullPointerException nullPointerException) {
-            Log.error(nullPointerException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_NULL_POINTER +
-                    nullPointerException.getMessage());
-            quitDriver();
-        }
+        startDriver(Data.DATA_BROWSER_CHROME, () -> instrument(new ChromeDriver()));
     }
 
     /**
      * Establece la conexión personalizada con el WebDriver de Chrome utilizando {@link ChromeOptions}.
      * <p>
-     * Este método inicializa un nuevo objeto {@link ChromeDriver} con las opciones específicas
-     * proporcionadas en un objeto de {@link ChromeOptions}.
-     * Si la inicialización falla, se manejan las excepciones, se registra el error correspondiente,
-     * y el método finaliza la sesión del driver si es necesario.
+     * Este método inicia en segundo plano un nuevo objeto {@link ChromeDriver} con las opciones
+     * proporcionadas, le aplica las reglas de bloqueo de red de la suite ({@link NetworkBlocker}), registra su
+     * actividad de red ({@link NetworkIdle}) y retorna
+     * de inmediato. La prueba espera la sesión la primera vez que la utiliza,
+     * mediante {@link #getDriver()}, donde se manejan los errores de inicialización.
      * </p>
      *
      * @param options Configuraciones personalizadas para el {@link ChromeDriver}.
-     * @throws AssertionError si no se puede crear el driver o si ocurre una excepción.
-     *                        <p>
-     *                        Registro de excepciones manejadas:
-     *                        <ul>
-     *                          <li>{@link SessionNotCreatedException}: Error al crear la sesión del driver.</li>
-     *                          <li>{@link NullPointerException}: Error inesperado durante la inicialización del driver.</li>
-     *                        </ul>
      */
     public void chromeDriverConnectionOptions(ChromeOptions options) {
         Log.info(LogInfo.LOG_CHROME_CUSTOM_CONNECTION);
-
-        try {
-            driver = new ChromeDriver(options);
-            Assert.assertNotNull(driver, AssertInfo.ASSERT_DRIVER_NOT_NULL);
-            Log.info(LogInfo.LOG_WEBDRIVER_INIT);
-        } catch (SessionNotCreatedException sessionNotCreatedException) {
-            Log.error(sessionNotCreatedException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_SESSION_NOT_CREATED +
-                    sessionNotCreatedException.getMessage());
-            quitDriver();
-        } catch (NullPointerException nullPointerException) {
-            Log.error(nullPointerException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_NULL_POINTER +
-                    nullPointerException.getMessage());
-            quitDriver();
-        }
+        startDriver(Data.DATA_BROWSER_CHROME, () -> instrument(new ChromeDriver(options)));
     }
 
     /**
      * Establece la conexión con el WebDriver de Microsoft Edge.
      * <p>
-     * Este método inicializa un nuevo objeto {@link EdgeDriver}.
-     * Si la inicialización falla, captura las excepciones relevantes, registra el error correspondiente
-     * y, si es necesario, finaliza la sesión del driver.
+     * Este método inicia en segundo plano un nuevo objeto {@link EdgeDriver} y retorna de inmediato.
+     * La prueba espera la sesión la primera vez que la utiliza, mediante {@link #getDriver()}, donde se
+     * manejan los errores de inicialización.
      * </p>
-     *
-     * @throws AssertionError si no se puede crear el driver o si ocurre una excepción.
-     *                        <p>
-     *                        Registro de excepciones manejadas:
-     *                        <ul>
-     *                          <li>{@link SessionNotCreatedException}: Error al crear la sesión del driver.</li>
-     *                          <li>{@link NullPointerException}: Error inesperado durante la inicialización del driver.</li>
-     *                        </ul>
      */
     public void edgeConnection() {
         Log.info(LogInfo.LOG_EDGE_CONNECTION);
-
-        try {
-            driver = new EdgeDriver();
-            Assert.assertNotNull(driver, AssertInfo.ASSERT_DRIVER_NOT_NULL);
-            Log.info(LogInfo.LOG_WEBDRIVER_INIT);
-        } catch (SessionNotCreatedException sessionNotCreatedException) {
-            Log.error(sessionNotCreatedException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_SESSION_NOT_CREATED +
-                    sessionNotCreatedException.getMessage());
-            quitDriver();
-        } catch (NullPointerException nullPointerException) {
-            Log.error(nullPointerException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_NULL_POINTER +
-                    nullPointerException.getMessage());
-            quitDriver();
-        }
+        startDriver(Data.DATA_BROWSER_EDGE, () -> instrument(new EdgeDriver()));
     }
 
     /**
      * Establece la conexión personalizada con el WebDriver de Microsoft Edge utilizando {@link EdgeOptions}.
      * <p>
-     * Este método inicializa un nuevo objeto {@link EdgeDriver} con opciones específicas
-     * proporcionadas mediante un objeto de {@link EdgeOptions}.
-     * Si ocurre un error durante la inicialización del driver, se captura la excepción correspondiente,
-     * se registra el mensaje de error y, si es necesario, se finaliza la sesión del driver.
+     * Este método inicia en segundo plano un nuevo objeto {@link EdgeDriver} con las opciones
+     * proporcionadas, le aplica las reglas de bloqueo de red de la suite ({@link NetworkBlocker}), registra su
+     * actividad de red ({@link NetworkIdle}) y retorna
+     * de inmediato. La prueba espera la sesión la primera vez que la utiliza,
+     * mediante {@link #getDriver()}, donde se manejan los errores de inicialización.
      * </p>
      *
      * @param options Configuraciones personalizadas para el {@link EdgeDriver}.
-     * @throws AssertionError si no se puede crear el driver o si ocurre una excepción.
-     *                        <p>
-     *                        Registro de excepciones manejadas:
-     *                        <ul>
-     *                          <li>{@link SessionNotCreatedException}: Error al crear la sesión del driver.</li>
-     *                          <li>{@link NullPointerException}: Error inesperado durante la inicialización del driver.</li>
-     *                        </ul>
      */
     public void edgeConnectionOptions(EdgeOptions options) {
         Log.info(LogInfo.LOG_EDGE_CUSTOM_CONNECTION);
+        startDriver(Data.DATA_BROWSER_EDGE, () -> instrument(new EdgeDriver(options)));
+    }
 
-        try {
-            driver = new EdgeDriver(options);
-            Assert.assertNotNull(driver, AssertInfo.ASSERT_DRIVER_NOT_NULL);
-            Log.info(LogInfo.LOG_WEBDRIVER_INIT);
-        } catch (SessionNotCreatedException sessionNotCreatedException) {
-            Log.error(sessionNotCreatedException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_SESSION_NOT_CREATED +
-                    sessionNotCreatedException.getMessage());
-            quitDriver();
-        } catch (NullPointerException nullPointerException) {
-            Log.error(nullPointerException.getMessage());
-            Assert.fail(AssertInfo.ASSERT_DRIVER_NULL_POINTER +
-                    nullPointerException.getMessage());
-            quitDriver();
-        }
+    /**
+     * Establece la conexión con un Selenium Grid utilizando {@link RemoteWebDriver}.
+     * <p>
+     * Este método inicia en segundo plano una sesión remota con las opciones proporcionadas, en el Grid
+     * configurado en "grid.url", y retorna de inmediato. Antes de solicitar la sesión se espera a que el Grid
+     * tenga un espacio libre para el navegador (ver {@link GridCapacity}), de modo que la solicitud nunca quede
+     * en la cola del Grid. La prueba espera la sesión la primera vez que la utiliza, mediante {@link #getDriver()}.
+     * </p>
+     *
+     * @param options Configuraciones personalizadas del navegador ({@link ChromeOptions}, {@link EdgeOptions}
+     *                o {@link FirefoxOptions}).
+     */
+    public void remoteConnectionOptions(Capabilities options) {
+        WebDriverConfiguration.Grid grid = config().webDriverConfiguration().grid();
+        Log.info(LogInfo.LOG_REMOTE_CONNECTION + grid.url());
+
+        URI gridUrl = URI.create(grid.url());
+        GridCapacity capacity = GridCapacity.of(gridUrl, grid.statusPollMillis());
+        String browserName = options.getBrowserName();
+
+        startDriver(browserName, () -> {
+            GridCapacity.Reservation reservation =
+                    capacity.reserve(browserName, Duration.ofSeconds(grid.slotTimeoutSeconds()));
+            try {
+                RemoteWebDriver driver = new RemoteWebDriver(gridUrl.toURL(), options);
+                // La reserva se mantiene hasta que el Grid informe la sesión como ocupada o hasta cerrarla
+                capacity.confirm(reservation, driver);
+                return driver;
+            } catch (MalformedURLException malformedURLException) {
+                capacity.release(reservation);
+                throw new IllegalArgumentException(malformedURLException);
+            } catch (RuntimeException e) {
+                capacity.release(reservation);
+                throw e;
+            }
+        });
     }
 
     /**
@@ -358,12 +327,26 @@ public class Base {
      * Si el elemento no se encuentra o no es válido, el método genera una excepción antes de retornar.
      **/
     public WebElement findElement(By locator) {
-        // Encontrar el elemento usando el driver
-        WebElement element = this.driver.findElement(locator);
+        // Encontrar el elemento usando el driver, esperando que exista durante la espera implícita de la prueba
+        Duration implicitWait = TestContext.current().budget(TestContext.current().implicitWait());
+        WebElement element = LocatorTelemetry.measure(locator, "find", () -> {
+            if (implicitWait.isZero()) {
+                return getDriver().findElement(locator);
+            }
+            try {
+                return waitFor(implicitWait)
+                        .ignoring(NoSuchElementException.class)
+                        .until(driver -> driver.findElement(locator));
+            } catch (TimeoutException e) {
+                if (e.getCause() instanceof NoSuchElementException notFound) throw notFound;
+                throw e;
+            }
+        });
 
         Log.info(LogInfo.LOG_FIND_ELEMENT + locator);
         // Validar que el elemento no sea null
         Assert.assertNotNull(element, AssertInfo.ASSERT_ELEMENT_NOT_NULL + locator);
+        if (config().webDriverConfiguration().elementCache()) elements.put(locator, element);
 
         // Validar que el elemento esté visible
         //Assert.assertTrue(element.isDisplayed(), "Error: El elemento encontrado no está visible en el DOM.");
@@ -371,6 +354,41 @@ public class Base {
         return element;
     }
 
+    /**
+     * Aplica una acción al elemento del localizador, reutilizando la referencia de la última búsqueda en la página
+     * actual en lugar de buscarlo de nuevo; así, varias acciones seguidas sobre un mismo elemento cuestan una sola
+     * consulta al driver. Si la referencia quedó obsoleta (la aplicación volvió a dibujar el elemento o la página
+     * cambió), se descarta, se busca el elemento con {@link #findElement(By)} y se repite la acción una vez.
+     * Con "elementCache" en false, el elemento se busca en cada llamada.
+     *
+     * @param locator el localizador del elemento.
+     * @param action  la acción sobre el elemento.
+     * @param <T>     tipo del resultado de la acción.
+     * @return el resultado de la acción.
+     */
+    public <T> T withElement(By locator, Function<WebElement, T> action) {
+        WebElement cached = elements.get(locator);
+        if (cached != null) {
+            try {
+                return action.apply(cached);
+            } catch (StaleElementReferenceException e) {
+                elements.remove(locator);
+                Log.debug(LogInfo.LOG_ELEMENT_CACHE_STALE + locator);
+            }
+        }
+        return action.apply(findElement(locator));
+    }
+
+    /**
+     * Descarta los elementos guardados por {@link #withElement(By, Function)}. Los métodos de navegación, de clic y
+     * de espera de inactividad de esta clase lo llaman automáticamente, ya que después de ellos la aplicación puede
+     * haber reemplazado el elemento por otro que sigue en la página; debe llamarse después de navegar, hacer clic o
+     * cambiar de ventana o marco directamente con el driver.
+     */
+    public void clearElementCache() {
+        elements.clear();
+    }
+
     /**
      * Retorna un elemento de la web como tipo Select, comúnmente utilizado para dropdowns.
      *
@@ -393,12 +411,12 @@ public class Base {
      */
     public String getTextByLocator(By locator) {
         Log.info(LogInfo.LOG_GET_TEXT_BY_LOCATOR + locator);
-        return findElement(locator).getText();
+        return withElement(locator, WebElement::getText);
     }
 
     public boolean elementEnabled(By locator) {
         Log.info(LogInfo.LOG_GET_TEXT_BY_LOCATOR + locator);
-        return findElement(locator).isEnabled();
+        return withElement(locator, WebElement::isEnabled);
     }
 
     /**
@@ -426,7 +444,7 @@ public class Base {
      */
     public List<WebElement> findElements(By locator) {
         Log.info(LogInfo.LOG_FIND_ELEMENT_LIST + locator);
-        return this.driver.findElements(locator);
+        return LocatorTelemetry.measure(locator, "findAll", () -> getDriver().findElements(locator));
     }
 
     /**
@@ -439,8 +457,10 @@ public class Base {
      */
     public void selectElementSelectByVisibleText(By locator, String seleccion) {
         Log.info(LogInfo.LOG_SELECT_DROPDOWNLIST_ELEMENT_BY_VISIBLE_TEXT);
-        Select select = new Select(findElement(locator));
-        select.selectByVisibleText(seleccion);
+        withElement(locator, element -> {
+            new Select(element).selectByVisibleText(seleccion);
+            return null;
+        });
     }
 
     /**
@@ -453,9 +473,12 @@ public class Base {
      */
     public void selectElementSelectByValue(By locator, String selection) {
         Log.info(LogInfo.LOG_SELECT_DROPDOWNLIST_ELEMENT_BY_VALUE);
-        Select select = new Select(findElement(locator));
-        Log.info(select.getAllSelectedOptions().toString());
-        select.selectByValue(selection);
+        withElement(locator, element -> {
+            Select select = new Select(element);
+            Log.info(select.getAllSelectedOptions().toString());
+            select.selectByValue(selection);
+            return null;
+        });
     }
 
     /**
@@ -485,7 +508,7 @@ public class Base {
      */
     public void sendInputText(String inputText, By locator) {
         Log.info(LogInfo.LOG_TYPE_TEXT + inputText);
-        findElement(locator).sendKeys(inputText);
+        sendKeys(locator, inputText);
     }
 
     /**
@@ -501,7 +524,8 @@ public class Base {
         //encontrarElemento(locator).sendKeys(inputText);
         sendInputText(inputText, locator);
         Log.info(LogInfo.LOG_TYPE_TEXT_AND_ENTER);
-        findElement(locator).sendKeys(Keys.ENTER);
+        sendKeys(locator, Keys.ENTER);
+        clearElementCache();
     }
 
     /**
@@ -518,8 +542,9 @@ public class Base {
         //encontrarElemento(locator).sendKeys(inputText);
         sendInputText(inputText, locator);
         Log.info(LogInfo.LOG_TYPE_TEXT_AND_ENTER);
-        findElement(locator).sendKeys(Keys.DOWN);
-        findElement(locator).sendKeys(Keys.ENTER);
+        sendKeys(locator, Keys.DOWN);
+        sendKeys(locator, Keys.ENTER);
+        clearElementCache();
     }
 
     /**
@@ -532,7 +557,10 @@ public class Base {
      */
     public void clearText(By locator) {
         Log.info(LogInfo.LOG_CLEAR_TEXT + locator);
-        findElement(locator).clear();
+        withElement(locator, element -> {
+            element.clear();
+            return null;
+        });
     }
 
     /**
@@ -544,8 +572,15 @@ public class Base {
      *                (por ejemplo, By.xpath, By.id, etc.).
      */
     public void selectAndClearAllText(By locator) {
-        findElement(locator).sendKeys(Keys.CONTROL, "a");
-        findElement(locator).sendKeys(Keys.BACK_SPACE);
+        sendKeys(locator, Keys.CONTROL, "a");
+        sendKeys(locator, Keys.BACK_SPACE);
+    }
+
+    private void sendKeys(By locator, CharSequence... keys) {
+        withElement(locator, element -> {
+            element.sendKeys(keys);
+            return null;
+        });
     }
 
     /**
@@ -557,7 +592,74 @@ public class Base {
      */
     public void visitUrl(String url) {
         Log.info(LogInfo.LOG_VISIT_URL + url);
-        this.driver.get(url);
+        Duration pageLoadTimeout = Duration.ofSeconds(config().webDriverConfiguration().pageLoad().timeoutSeconds());
+        getDriver().manage().timeouts().pageLoadTimeout(TestContext.current().budget(pageLoadTimeout));
+        clearElementCache();
+        getDriver().get(url);
+        waitForNetworkIdle();
+    }
+
+    /**
+     * Espera a que la página quede lista: sin solicitudes XHR/fetch en curso durante la ventana de silencio
+     * configurada en "pageLoad.networkIdleQuietMillis" (ver {@link NetworkIdle}).
+     * <p>
+     * Con la estrategia de carga "eager", {@code driver.get} retorna apenas el DOM está listo, y este método
+     * espera solo los datos que la aplicación solicita después. Si el navegador no admite DevTools (Firefox o
+     * Grid), se espera a que {@code document.readyState} sea "complete". Si la red no queda inactiva a tiempo se
+     * registra una advertencia y la prueba continúa; las esperas de elementos posteriores determinan el resultado.
+     * </p>
+     */
+    public void waitForNetworkIdle() {
+        WebDriverConfiguration.PageLoad pageLoad = config().webDriverConfiguration().pageLoad();
+        waitForNetworkIdle(Duration.ofMillis(pageLoad.networkIdleQuietMillis()));
+    }
+
+    /**
+     * Espera a que la página no tenga solicitudes XHR/fetch en curso durante la ventana de silencio indicada.
+     *
+     * @param quiet tiempo sin solicitudes en curso que se considera inactividad.
+     */
+    public void waitForNetworkIdle(Duration quiet) {
+        // Los datos que llegan durante la espera pueden volver a dibujar los elementos guardados
+        clearElementCache();
+        Duration timeout = TestContext.current().budget(
+                Duration.ofSeconds(config().webDriverConfiguration().pageLoad().networkIdleTimeoutSeconds()));
+        NetworkIdle network = NetworkIdle.of(getDriver());
+        if (network == null) {
+            waitFor(timeout).until(driver -> "complete".equals(
+                    ((JavascriptExecutor) driver).executeScript("return document.readyState")));
+            return;
+        }
+
+        Log.info(LogInfo.LOG_NETWORK_IDLE_WAIT + quiet.toMillis());
+        if (!network.awaitIdle(quiet, timeout)) {
+            Log.warn(LogInfo.LOG_NETWORK_IDLE_TIME_OUT + network.inFlight());
+        }
+    }
+
+    /**
+     * Espera a que la aplicación termine de reaccionar a la última acción, por ejemplo un cambio de ruta de
+     * Angular: sin tareas pendientes en Angular, sin nodos agregados o quitados durante
+     * "pageLoad.appStableQuietMillis" (ver {@link AppStability}) y sin solicitudes XHR/fetch en curso (ver
+     * {@link #waitForNetworkIdle()}).
+     * <p>
+     * Reemplaza las pausas fijas antes de una captura de pantalla: la prueba continúa apenas la aplicación queda
+     * inactiva. Si no queda inactiva en "pageLoad.appStableTimeoutSeconds", se registra una advertencia y la prueba
+     * continúa.
+     * </p>
+     */
+    public void waitForAppStable() {
+        WebDriverConfiguration.PageLoad pageLoad = config().webDriverConfiguration().pageLoad();
+        long start = System.nanoTime();
+        String mode = AppStability.await(getDriver(), Duration.ofMillis(pageLoad.appStableQuietMillis()),
+                TestContext.current().budget(Duration.ofSeconds(pageLoad.appStableTimeoutSeconds())));
+        if (mode == null) {
+            Log.warn(LogInfo.LOG_APP_STABLE_TIME_OUT + getDriver().getCurrentUrl());
+        } else {
+            Log.info(LogInfo.LOG_APP_STABLE + mode + " ("
+                    + Duration.ofNanos(System.nanoTime() - start).toMillis() + " ms)");
+        }
+        waitForNetworkIdle();
     }
 
     /**
@@ -566,9 +668,22 @@ public class Base {
      * y asegura que los recursos asociados al controlador sean liberados adecuadamente.
      */
     public void quitDriver() {
-        Log.info(LogInfo.LOG_QUIT + Base.browser);
+        Log.info(LogInfo.LOG_QUIT + TestContext.current().browser());
         Log.info(LogInfo.LOG_SEPARATE);
-        this.driver.quit();
+        CompletableFuture<WebDriver> started = getDriverAsync();
+        // Si el inicio de la sesión falló no hay navegador que cerrar; el error ya se informó en getDriver()
+        WebDriver session = started == null ? null : started.handle((created, error) -> created).join();
+        if (session == null) return;
+        // quit() borra el identificador de la sesión, que es la clave de los registros que se descartan
+        SessionId id = session instanceof RemoteWebDriver remote ? remote.getSessionId() : null;
+        try {
+            session.quit();
+        } finally {
+            ProfileTemplate.release(id);
+            NetworkBlocker.forget(id);
+            NetworkIdle.forget(id);
+            GridCapacity.forget(id);
+        }
     }
 
     /**
@@ -581,7 +696,11 @@ public class Base {
      */
     public void clickLocator(By locator) {
         Log.info(LogInfo.LOG_CLICK_LOCATOR + locator);
-        findElement(locator).click();
+        withElement(locator, element -> {
+            element.click();
+            return null;
+        });
+        clearElementCache();
     }
 
     /**
@@ -594,6 +713,7 @@ public class Base {
     public void clickWebElement(WebElement webElement) {
         Log.info(LogInfo.LOG_CLICK_ELEMENT + webElement);
         webElement.click();
+        clearElementCache();
     }
 
     /**
@@ -630,7 +750,7 @@ public class Base {
      */
     public void navigate(int x, int y) {
         Log.info(LogInfo.LOG_NAVIGATE_TO_X_AND_Y + x + "/" + y);
-        JavascriptExecutor jse = (JavascriptExecutor) this.driver;
+        JavascriptExecutor jse = (JavascriptExecutor) getDriver();
         jse.executeScript("scroll(" + x + ", " + y + ");");
     }
 
@@ -644,9 +764,7 @@ public class Base {
      */
     public int getX(By locator) {
         Log.info(LogInfo.LOG_GET_X);
-        WebElement element = findElement(locator);
-        Point classname = element.getLocation();
-        return classname.getX();
+        return withElement(locator, element -> element.getLocation().getX());
     }
 
     /**
@@ -659,9 +777,7 @@ public class Base {
      */
     public int getY(By locator) {
         Log.info(LogInfo.LOG_GET_Y);
-        WebElement element = findElement(locator);
-        Point classname = element.getLocation();
-        return classname.getY();
+        return withElement(locator, element -> element.getLocation().getY());
     }
 
     /**
@@ -673,7 +789,7 @@ public class Base {
      */
     public void screenShot2() {
         Log.info(LogInfo.LOG_SCREENSHOT_TAKE);
-        File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+        File screenshot = ((TakesScreenshot) getDriver()).getScreenshotAs(OutputType.FILE);
         try {
             Files.createDirectories(Paths.get(getJsonString(ExternalData.ED_OBJECT_WEB_DRIVER_CONFIGURATION, ExternalData.ED_EVIDENCES, ExternalData.ED_SOURCE) + generateFolderName()));
 
@@ -691,12 +807,11 @@ public class Base {
 
     public void screenShot() throws IOException {
         //Log.info(LogInfo.LOG_SCREENSHOT_TAKE);
+        if (config().webDriverConfiguration().locatorAnalysis().captureSnapshots()) saveDomSnapshot();
 
-        File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+        File screenshot = ((TakesScreenshot) getDriver()).getScreenshotAs(OutputType.FILE);
         String folderName = generateFolderName();
-        String basePath = getJsonString(ExternalData.ED_OBJECT_WEB_DRIVER_CONFIGURATION,
-                ExternalData.ED_EVIDENCES,
-                ExternalData.ED_SOURCE);
+        String basePath = config().webDriverConfiguration().evidences();
         Path targetDir = Paths.get(basePath + folderName);
 
         try {
@@ -722,6 +837,28 @@ public class Base {
         }
     }
 
+    /**
+     * Guarda el DOM actual, sin scripts, en la carpeta "locatorAnalysis.snapshots", para medir los localizadores
+     * sin conectarse al ambiente (ver {@link pom.wait.LocatorAnalyzer}). El nombre del archivo incluye el nombre
+     * de la prueba y un resumen del contenido, por lo que una misma página se guarda una sola vez.
+     */
+    public void saveDomSnapshot() {
+        try {
+            String html = (String) ((JavascriptExecutor) getDriver()).executeScript(Data.DATA_DOM_SNAPSHOT_JS);
+            Path directory = Paths.get(config().webDriverConfiguration().locatorAnalysis().snapshots());
+            String name = TestContext.current().testName().replaceAll("[^\\w-]+", "_") + "-"
+                    + Integer.toHexString(html.hashCode()) + ".html";
+            Files.createDirectories(directory);
+            Path snapshot = directory.resolve(name);
+            if (Files.notExists(snapshot)) {
+                Files.writeString(snapshot, html, StandardCharsets.UTF_8);
+                Log.info(LogInfo.LOG_DOM_SNAPSHOT_SAVED + snapshot);
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.warn(LogInfo.LOG_DOM_SNAPSHOT_ERROR + e.getMessage());
+        }
+    }
+
     /**
      * Verifica si un elemento web especificado por el localizador está visible en la página.
      * Este método registra información sobre el elemento proporcionado y maneja posibles
@@ -733,7 +870,7 @@ public class Base {
     public boolean elementDisplayedByLocator(By locator) {
         try {
             Log.info(LogInfo.LOG_ELEMENT_DISPLAYED + locator);
-            return findElement(locator).isDisplayed();
+            return withElement(locator, WebElement::isDisplayed);
         } catch (Exception e) {
             Log.warn(e.toString());
             return false;
@@ -742,9 +879,58 @@ public class Base {
 
     public boolean elementIsVisibleByLocator(By locator) {
         Log.info(LogInfo.LOG_ELEMENT_DISPLAYED + locator);
-        boolean visible = !findElements(locator).isEmpty() &&
-                findElement(locator).isDisplayed();
-        return visible;
+        if (elements.containsKey(locator)) {
+            try {
+                return elements.get(locator).isDisplayed();
+            } catch (StaleElementReferenceException e) {
+                elements.remove(locator);
+            }
+        }
+        // Sin referencia vigente, una sola búsqueda indica si el elemento existe y entrega la referencia
+        List<WebElement> found = findElements(locator);
+        if (found.isEmpty()) return false;
+        if (config().webDriverConfiguration().elementCache()) elements.put(locator, found.get(0));
+        return found.get(0).isDisplayed();
+    }
+
+    /**
+     * Obtiene, con una sola consulta al navegador, si cada localizador encuentra un elemento, si es visible, si está
+     * habilitado, su texto y su posición (ver {@link ElementState}). Sirve para verificar muchos elementos a la vez
+     * sin una búsqueda y una consulta por dato para cada uno.
+     *
+     * @param locators los localizadores de los elementos.
+     * @return el estado de cada localizador, en el orden recibido.
+     */
+    public Map<By, ElementState> getElementStates(List<By> locators) {
+        Log.info(LogInfo.LOG_ELEMENT_STATES + locators);
+        return ElementState.of(getDriver(), locators);
+    }
+
+    /**
+     * Espera a que el estado de un grupo de elementos cumpla una condición, consultando todos los estados con un
+     * solo script en cada intento (ver {@link #getElementStates(List)}).
+     *
+     * <p>Ejemplo de uso:</p>
+     * <pre>
+     * {@code
+     * waitForElementStates(List.of(Elements.ELM_A, Elements.ELM_B),
+     *         states -> states.values().stream().allMatch(ElementState::displayed), Duration.ofSeconds(10));
+     * }
+     * </pre>
+     *
+     * @param locators  los localizadores de los elementos.
+     * @param condition la condición sobre los estados.
+     * @param timeout   el tiempo máximo de espera, limitado por el plazo de la prueba.
+     * @return los estados que cumplieron la condición.
+     * @throws TimeoutException si la condición no se cumple a tiempo.
+     */
+    public Map<By, ElementState> waitForElementStates(List<By> locators,
+                                                      Predicate<Map<By, ElementState>> condition, Duration timeout) {
+        Log.info(LogInfo.LOG_ELEMENT_STATES + locators);
+        return waitFor(timeout).until(driver -> {
+            Map<By, ElementState> states = ElementState.of(driver, locators);
+            return condition.test(states) ? states : null;
+        });
     }
 
     /**
@@ -765,93 +951,89 @@ public class Base {
     }
 
     /**
-     * Espera a que un elemento web especificado por el localizador esté disponible para ser clicado.
-     * Este método utiliza una espera explícita para verificar la disponibilidad del elemento,
-     * realiza múltiples intentos en caso de excepciones, y toma capturas de pantalla durante el proceso
-     * para asegurar trazabilidad. En caso de error, registra los detalles y marca la prueba como fallida.
+     * Espera a que un elemento web especificado por el localizador esté disponible para ser clicado y lo clickea.
+     * Este método espera el elemento con {@link #waitForElement(By, DomWait.State, Duration)} y reintenta el clic
+     * mientras el elemento no esté disponible, quede obsoleto o esté cubierto por otro elemento, y toma capturas de pantalla durante el
+     * proceso para asegurar trazabilidad. En caso de error, registra los detalles y marca la prueba como fallida.
      *
      * @param locator el localizador del elemento web que se espera que sea clicable
      *                (por ejemplo, By.xpath, By.id, etc.).
      */
     public void waitForElementToBeClickable(By locator) throws IOException {
-        final int MAX_ATTEMPTS = 2;
-        final int TIMEOUT_SECONDS = 15;
-
         Log.info(LogInfo.LOG_WAIT_FOR_ELEMENT_TO_BE_CLICKABLE + locator);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT_SECONDS));
-
-        int attempts = 0;
-
-        while (attempts < MAX_ATTEMPTS) {
-            try {
-                WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
-
-                element.click();
-                Log.info(LogInfo.LOG_ELEMENT_CLICKED + (attempts + 1));
-                return;
-            } catch (StaleElementReferenceException | ElementClickInterceptedException | TimeoutException e) {
-                Log.warn(LogInfo.LOG_ERROR_ELEMENT_CLICKED + (attempts + 1));
-            }
-
-            attempts++;
-            waitShortBetweenAttempts();
-        }
-
-        Log.error(LogInfo.LOG_ERROR_CANNOT_CLICK_ELEMENT + locator);
-        screenShot();
-        fail(Mensajes.MENSAJE_ERROR_ELEMENTO_NO_CLICKEABLE + locator);
-    }
-
-    private void waitShortBetweenAttempts() {
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        if (!clickWhenClickable(locator, WebElement::click)) {
+            screenShot();
+            fail(Mensajes.MENSAJE_ERROR_ELEMENTO_NO_CLICKEABLE + locator);
         }
     }
 
     /**
-     * Espera a que un elemento web especificado por el localizador esté disponible para ser clicado
+     * Espera a que un elemento web especificado por el localizador esté disponible para ser clicado y lo clickea
      * utilizando javascript.
-     * Este método utiliza una espera explícita para verificar la disponibilidad del elemento,
-     * realiza múltiples intentos en caso de excepciones, y toma capturas de pantalla durante el proceso
-     * para asegurar trazabilidad. En caso de error, registra los detalles y marca la prueba como fallida.
+     * Este método espera el elemento con {@link #waitForElement(By, DomWait.State, Duration)} y reintenta el clic
+     * mientras el elemento no esté disponible o quede obsoleto. En caso de error, registra los detalles y marca la prueba como fallida.
      *
      * @param locator el localizador del elemento web que se espera que sea clicable
      *                (por ejemplo, By.xpath, By.id, etc.).
      */
     public void waitForElementToBeClickableJavascript(By locator) {
-        final int MAX_ATTEMPTS = 2;
-        final int TIMEOUT_SECONDS = 15;
-
         Log.info(LogInfo.LOG_WAIT_FOR_ELEMENT_TO_BE_CLICKABLE + locator);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT_SECONDS));
-
-        int attempts = 0;
-
-        while (attempts < MAX_ATTEMPTS) {
-            try {
-                WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
-
-                element.click();
-                Log.info(LogInfo.LOG_ELEMENT_CLICKED + (attempts + 1));
+        if (!clickWhenClickable(locator, this::javascriptClickToWebElement)) {
+            fail(Mensajes.MENSAJE_ERROR_ELEMENTO_NO_CLICKEABLE + locator);
+        }
+    }
 
-            } catch (StaleElementReferenceException | ElementClickInterceptedException | TimeoutException e) {
-                Log.warn(LogInfo.LOG_ERROR_ELEMENT_CLICKED + (attempts + 1));
-            }
+    /**
+     * Espera a que el elemento sea clicable y le aplica la acción de clic, reintentando mientras la acción falle
+     * porque el elemento quedó obsoleto o cubierto.
+     *
+     * @return true si el clic se realizó antes del tiempo del localizador (ver {@link LearnedTimeouts}, por defecto
+     * {@link Data#DATA_TIME_OUT} segundos) o del plazo de la prueba.
+     */
+    private boolean clickWhenClickable(By locator, Consumer<WebElement> click) {
+        return LocatorTelemetry.measure(locator, "click", () -> clickWhenClickableMeasured(locator, click));
+    }
 
-            attempts++;
-            waitShortBetweenAttempts();
+    private boolean clickWhenClickableMeasured(By locator, Consumer<WebElement> click) {
+        int[] attempts = {0};
+        long start = System.nanoTime();
+        Duration timeout = null;
+        try {
+            timeout = TestContext.current().budget(
+                    LearnedTimeouts.shared().timeout(locator, Duration.ofSeconds(Data.DATA_TIME_OUT)));
+            long deadline = start + timeout.toNanos();
+            boolean observe = DomWait.enabled();
+            waitFor(timeout)
+                    .ignoring(NoSuchElementException.class, StaleElementReferenceException.class,
+                            ElementClickInterceptedException.class, ElementNotInteractableException.class)
+                    .until(driver -> {
+                        attempts[0]++;
+                        // Con el MutationObserver activo, cada intento se bloquea hasta que el elemento sea clicable
+                        WebElement element = observe
+                                ? DomWait.until(driver, locator, DomWait.State.CLICKABLE,
+                                        Duration.ofNanos(Math.max(0, deadline - System.nanoTime())))
+                                : ExpectedConditions.elementToBeClickable(locator).apply(driver);
+                        if (element == null) return false;
+                        click.accept(element);
+                        return true;
+                    });
+            clearElementCache();
+            LearnedTimeouts.shared().succeeded(locator, Duration.ofNanos(System.nanoTime() - start));
+            Log.info(LogInfo.LOG_ELEMENT_CLICKED + attempts[0]);
+            return true;
+        } catch (TimeoutException e) {
+            LocatorTelemetry.timedOut();
+            if (timeout != null) LearnedTimeouts.shared().timedOut(locator, timeout);
+            Log.warn(LogInfo.LOG_ERROR_ELEMENT_CLICKED + attempts[0]);
+            Log.error(LogInfo.LOG_ERROR_CANNOT_CLICK_ELEMENT + locator);
+            return false;
         }
-
-        Log.error(LogInfo.LOG_ERROR_CANNOT_CLICK_ELEMENT + locator);
-        fail(Mensajes.MENSAJE_ERROR_ELEMENTO_NO_CLICKEABLE + locator);
     }
 
     /**
      * Espera a que un elemento web especificado por el localizador sea visible en la página.
-     * Este método utiliza una espera fluida (FluentWait) para controlar la visibilidad del elemento,
-     * realiza múltiples intentos en caso de excepciones y toma capturas de pantalla como evidencia del proceso.
+     * Este método utiliza {@link #waitForElement(By, DomWait.State, Duration)} para controlar la visibilidad del
+     * elemento, realiza múltiples intentos en caso de excepciones y toma capturas de pantalla como evidencia del proceso.
      * En caso de error, registra los detalles y marca la prueba como fallida.
      *
      * @param locator el localizador del elemento web que se espera que sea visible
@@ -859,15 +1041,12 @@ public class Base {
      */
     public void waitForVisibilityOfElementLocated(By locator) throws IOException {
         Log.info(LogInfo.LOG_WAIT_FOR_ELEMENT_TO_BE_CLICKABLE + locator);
-        Wait<WebDriver> wait = new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(Data.DATA_TIME_OUT))
-                .pollingEvery(Duration.ofSeconds(Data.DATA_EVALUATED_TIME))
-                .ignoring(NoSuchElementException.class);
 
         int attempts = 0;
         while (attempts < 3) {
             try {
-                WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+                WebElement element = waitForElement(locator, DomWait.State.VISIBLE,
+                        Duration.ofSeconds(Data.DATA_TIME_OUT));
 
                 if (elementDisplayedByWebElement(element)) {
                     implicitWait(10);
@@ -902,9 +1081,7 @@ public class Base {
      */
     public void waitForDinamicElementFromListToBeClickable(By locator, String optionValue) throws IOException {
         Log.info(LogInfo.LOG_WAIT_FOR_ELEMENT_TO_BE_CLICKABLE);
-        Wait<WebDriver> wait = new FluentWait<>(driver)
-                .withTimeout(Duration.ofSeconds(Data.DATA_TIME_OUT))
-                .pollingEvery(Duration.ofSeconds(Data.DATA_EVALUATED_TIME))
+        Wait<WebDriver> wait = waitFor(Duration.ofSeconds(Data.DATA_TIME_OUT))
                 .ignoring(NoSuchElementException.class);
 
         WebElement element = findElement(locator);
@@ -915,7 +1092,8 @@ public class Base {
 
         Log.info(LogInfo.LOG_DYNAMIC_LIST_BOX_ID + list);
 
-        wait.until(ExpectedConditions.visibilityOfElementLocated(list));
+        LocatorTelemetry.measure(list, "wait:" + DomWait.State.VISIBLE,
+                () -> wait.until(ExpectedConditions.visibilityOfElementLocated(list)));
 
         Log.info(LogInfo.LOG_WAIT_FOR_ELEMENT_TO_BE_CLICKABLE);
 
@@ -925,7 +1103,7 @@ public class Base {
                 By option = getDinamicElement(elementID, optionValue);
                 WebElement firstOption = findElement(option);
                 Log.info(LogInfo.LOG_DYNAMIC_OPTION + option);
-                ((JavascriptExecutor) this.driver).executeScript(Data.DATA_SCROLL_INTO_VIEW_TRUE_JS, firstOption);
+                ((JavascriptExecutor) getDriver()).executeScript(Data.DATA_SCROLL_INTO_VIEW_TRUE_JS, firstOption);
 
                 javascriptClickToWebElement(firstOption);
                 break;
@@ -954,21 +1132,82 @@ public class Base {
     }
 
     /**
-     * Configura una espera implícita para el controlador de WebDriver.
-     * Este método registra información sobre el tiempo de espera configurado y establece
-     * el tiempo máximo que WebDriver esperará para encontrar un elemento antes de lanzar una excepción.
+     * Configura la espera implícita de la prueba: el tiempo que {@link #findElement(By)} espera a que el elemento
+     * exista antes de lanzar una excepción.
+     * La espera se guarda en el contexto de la prueba ({@link TestContext#implicitWait(Duration)}) y no en el
+     * driver, cuya espera implícita se mantiene en 0: así no se suma a cada intento de las esperas explícitas y
+     * también respeta el plazo de la prueba.
      *
      * @param time el tiempo de espera en segundos.
      */
     public void implicitWait(long time) {
-        this.driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(time));
+        TestContext.current().implicitWait(Duration.ofSeconds(time));
+    }
+
+    /**
+     * Crea una espera adaptativa sobre el driver: evalúa la condición de inmediato y luego con un intervalo que
+     * comienza en milisegundos y crece en cada intento (ver {@link AdaptiveWait}).
+     *
+     * @param timeout el tiempo máximo de espera, limitado por el plazo de la prueba (ver {@link TestContext#budget}).
+     * @return la espera, a la que se pueden agregar excepciones a ignorar antes de llamar a {@code until}.
+     * @throws TimeoutException si el plazo de la prueba ya se agotó.
+     */
+    public AdaptiveWait<WebDriver> waitFor(Duration timeout) {
+        return AdaptiveWait.on(getDriver()).withTimeout(TestContext.current().budget(timeout));
+    }
+
+    /**
+     * Espera a que se cumpla una condición sobre el driver, por ejemplo una de {@link ExpectedConditions}.
+     *
+     * @param condition la condición a esperar.
+     * @param timeout   el tiempo máximo de espera.
+     * @param <V>       tipo del valor que retorna la condición.
+     * @return el valor de la condición cuando se cumple.
+     * @throws TimeoutException si la condición no se cumple a tiempo.
+     */
+    public <V> V waitUntil(Function<? super WebDriver, V> condition, Duration timeout) {
+        return waitFor(timeout).until(condition);
+    }
+
+    /**
+     * Espera a que un elemento esté presente, visible o clicable. Si "waits.domObserver" está activo, la espera
+     * se bloquea en un {@code MutationObserver} inyectado en la página en lugar de consultar al driver en cada
+     * intento (ver {@link DomWait}); en caso contrario, sondea con {@link AdaptiveWait}. Si el localizador tiene un
+     * tiempo aprendido o fijado manualmente (ver {@link LearnedTimeouts}), se usa ese tiempo en lugar del indicado.
+     *
+     * @param locator el localizador del elemento.
+     * @param state   el estado esperado.
+     * @param timeout el tiempo máximo de espera por defecto, limitado por el plazo de la prueba.
+     * @return el elemento.
+     * @throws TimeoutException si el elemento no alcanza el estado a tiempo.
+     */
+    public WebElement waitForElement(By locator, DomWait.State state, Duration timeout) {
+        return LocatorTelemetry.measure(locator, "wait:" + state, () -> {
+            Duration limit = TestContext.current().budget(LearnedTimeouts.shared().timeout(locator, timeout));
+            long start = System.nanoTime();
+            try {
+                WebElement element = DomWait.enabled()
+                        ? DomWait.until(getDriver(), locator, state, limit)
+                        : waitFor(limit)
+                                .ignoring(NoSuchElementException.class, StaleElementReferenceException.class)
+                                .until(state.condition(locator));
+                LearnedTimeouts.shared().succeeded(locator, Duration.ofNanos(System.nanoTime() - start));
+                if (config().webDriverConfiguration().elementCache()) elements.put(locator, element);
+                return element;
+            } catch (TimeoutException e) {
+                LearnedTimeouts.shared().timedOut(locator, limit);
+                throw e;
+            }
+        });
     }
 
     /**
      * Busca un elemento web desplazándose verticalmente dentro de un rango definido por dos elementos.
      * Este método utiliza coordenadas obtenidas de los elementos inicial y final para navegar por la página.
      * Detiene la búsqueda cuando encuentra el elemento o alcanza el límite especificado.
-     * Después de localizar el elemento, espera a que sea clicable.
+     * Después de localizar el elemento, espera a que sea clicable. Las posiciones y la visibilidad se obtienen con
+     * {@link #getElementStates(List)}: una consulta al navegador por paso, en lugar de una búsqueda y una consulta
+     * por dato.
      *
      * @param element el localizador del elemento web que se desea buscar.
      * @param start   el localizador del elemento que define el punto inicial del rango de búsqueda.
@@ -976,15 +1215,17 @@ public class Base {
      */
     public void searchElementByCoordinates(By element, By start, By finish) throws IOException {
         Log.info(LogInfo.LOG_SEARCH_FOR_ELEMENT_WITH_VERTICAL_NAVIGATION + element);
-        int startElement = getY(start);
-        int finishElement = getY(finish);
+        Map<By, ElementState> bounds = getElementStates(List.of(start, finish));
+        int startElement = positionY(bounds.get(start), start);
+        int finishElement = positionY(bounds.get(finish), finish);
 
         boolean search = true;
 
         do {
-            if (elementDisplayedByLocator(element)) {
+            ElementState state = getElementStates(List.of(element)).get(element);
+            if (state.displayed()) {
                 search = false;
-                navigate(0, getY(element));
+                navigate(0, state.rect().getY());
             }
 
             if (startElement >= finishElement) {
@@ -1002,22 +1243,24 @@ public class Base {
     /**
      * Realiza la búsqueda de un elemento web desplazándose verticalmente en la página.
      * Este método utiliza las coordenadas inicial y final del elemento para navegar de manera incremental,
-     * verificando su visibilidad en cada paso. Detiene la búsqueda cuando encuentra el elemento y realiza un
-     * click en el elemento o detiene la busqueda al alcanzar los límites establecidos.
+     * verificando su visibilidad en cada paso con {@link #getElementStates(List)}. Detiene la búsqueda cuando
+     * encuentra el elemento y realiza un click en el elemento o detiene la busqueda al alcanzar los límites
+     * establecidos.
      *
      * @param element el localizador del elemento web que se desea buscar.
      */
     public void searchElement(By element) throws IOException {
         Log.info(LogInfo.LOG_SEARCH_FOR_ELEMENT_WITH_VERTICAL_NAVIGATION + element);
-        int ini = getY(element);
-        int ter = getY(element);
+        int ini = positionY(getElementStates(List.of(element)).get(element), element);
+        int ter = ini;
 
         boolean search = true;
 
         do {
-            if (elementDisplayedByLocator(element)) {
+            ElementState state = getElementStates(List.of(element)).get(element);
+            if (state.displayed()) {
                 search = false;
-                navigate(0, getY(element));
+                navigate(0, state.rect().getY());
             }
 
             if (ini >= ter) {
@@ -1033,6 +1276,14 @@ public class Base {
         javascriptClickToLocator(element);
     }
 
+    /**
+     * Retorna la posición vertical del estado de un elemento; si el elemento aún no existe, la obtiene con
+     * {@link #getY(By)}, que lo espera durante la espera implícita de la prueba.
+     */
+    private int positionY(ElementState state, By locator) {
+        return state.present() ? state.rect().getY() : getY(locator);
+    }
+
     /**
      * Realiza un clic en un elemento web utilizando JavaScript.
      * Este método registra información sobre el localizador proporcionado y utiliza un
@@ -1043,8 +1294,9 @@ public class Base {
      */
     public void javascriptClickToLocator(By locator) {
         Log.info(LogInfo.LOG_CLICK_WITH_JAVASCRIPT + locator);
-        JavascriptExecutor jse = (JavascriptExecutor) this.driver;
-        jse.executeScript(Data.DATA_CLICK_JS, findElement(locator));
+        JavascriptExecutor jse = (JavascriptExecutor) getDriver();
+        withElement(locator, element -> jse.executeScript(Data.DATA_CLICK_JS, element));
+        clearElementCache();
     }
 
     /**
@@ -1056,8 +1308,9 @@ public class Base {
      */
     public void javascriptClickToWebElement(WebElement element) {
         Log.info(LogInfo.LOG_CLICK_WITH_JAVASCRIPT + element);
-        JavascriptExecutor jse = (JavascriptExecutor) this.driver;
+        JavascriptExecutor jse = (JavascriptExecutor) getDriver();
         jse.executeScript(Data.DATA_CLICK_JS, element);
+        clearElementCache();
     }
 
     /**
@@ -1068,7 +1321,7 @@ public class Base {
      * @param element el elemento web hacia el cual se desea desplazar la vista.
      */
     public void navigateToWebElementWithJavascript(WebElement element) {
-        ((JavascriptExecutor) this.driver).executeScript(Data.DATA_SCROLL_INTO_VIEW_TRUE_JS, element);
+        ((JavascriptExecutor) getDriver()).executeScript(Data.DATA_SCROLL_INTO_VIEW_TRUE_JS, element);
     }
 
     /**
@@ -1080,7 +1333,8 @@ public class Base {
      *                (por ejemplo, By.xpath, By.id, etc.).
      */
     public void navigateToLocatorWithJavascript(By locator) {
-        ((JavascriptExecutor) this.driver).executeScript(Data.DATA_SCROLL_INTO_VIEW_TRUE_JS, findElement(locator));
+        withElement(locator, element ->
+                ((JavascriptExecutor) getDriver()).executeScript(Data.DATA_SCROLL_INTO_VIEW_TRUE_JS, element));
     }
 
     /**
@@ -1117,17 +1371,7 @@ public class Base {
      * @throws IOException si ocurre un error durante la lectura del archivo JSON.
      */
     public String getJsonString(String object, String data, String source) throws IOException {
-        // Ruta al archivo JSON
-        File jsonFile = new File(source);
-
-        // Crear el ObjectMapper y leer el archivo
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(jsonFile);
-
-        // Obtener el valor del campo "parallel"
-        String value = root.path(object).path(data).asText();
-
-        return value;
+        return configuration(source).getString(object, data);
     }
 
     /**
@@ -1143,17 +1387,7 @@ public class Base {
      * @throws IOException si ocurre un error durante la lectura del archivo JSON.
      */
     public boolean getJsonBoolean(String object, String data, String source) throws IOException {
-        // Ruta al archivo JSON
-        File jsonFile = new File(source);
-
-        // Crear el ObjectMapper y leer el archivo
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(jsonFile);
-
-        // Obtener el valor del campo "parallel"
-        boolean value = root.path(object).path(data).asBoolean();
-
-        return value;
+        return configuration(source).getBoolean(object, data);
     }
 
     /**
@@ -1169,16 +1403,40 @@ public class Base {
      * @throws IOException si ocurre un error durante la lectura del archivo JSON.
      */
     public int getJsonInt(String object, String data, String source) throws IOException {
-        // Ruta al archivo JSON
-        File jsonFile = new File(source);
-
-        // Crear el ObjectMapper y leer el archivo
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(jsonFile);
+        return configuration(source).getInt(object, data);
+    }
 
-        int value = root.path(object).path(data).asInt();
+    /**
+     * Obtiene la configuración en memoria asociada a la ruta indicada.
+     * El archivo se lee una sola vez por JVM; las llamadas posteriores reutilizan la misma instancia.
+     *
+     * @param source la ruta de la fuente del archivo JSON.
+     * @return la configuración cargada.
+     * @throws IOException si el archivo no se puede leer o analizar.
+     */
+    private ConfigurationSnapshot configuration(String source) throws IOException {
+        try {
+            return ConfigurationSnapshot.of(source);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 
-        return value;
+    /**
+     * Retorna la configuración vigente de {@link ExternalData#ED_SOURCE} con sus secciones tipadas.
+     * Las consultas a través de este objeto son lecturas de campos, sin búsquedas por clave.
+     *
+     * <p>Ejemplo de uso:</p>
+     * <pre>
+     * {@code
+     * String url = config().webDriverConfiguration().urlTest();
+     * }
+     * </pre>
+     *
+     * @return la configuración en memoria.
+     */
+    public ConfigurationSnapshot config() {
+        return ConfigurationSnapshot.current();
     }
 
     /**
@@ -1202,30 +1460,24 @@ public class Base {
         clickLocator(locator);
 
         // Obtener la ruta de descarga configurada
-        String downloadPath = getJsonString(ExternalData.ED_OBJECT_WEB_DRIVER_CONFIGURATION,
-                ExternalData.ED_DOWNLOADS,
-                ExternalData.ED_SOURCE);
+        String downloadPath = config().webDriverConfiguration().downloads();
 
         String absolutePath = Paths.get(downloadPath).toAbsolutePath().toString();
 
         // Esperar dinámicamente a que se descargue al menos un archivo .docx
         try {
             waitForFileDownload(fileType, absolutePath, 30); // Espera hasta 30 segundos
-        } catch (InterruptedException e) {
-            Log.error(LogInfo.LOG_DOWNLOAD_ERROR_DYNAMIC_INTERRUPTION + e.getMessage());
-            Thread.currentThread().interrupt();
-            throw new IOException(LogInfo.LOG_DOWNLOAD_ERROR_INTERRUPTED_WAITING);
         } catch (RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                Log.error(LogInfo.LOG_DOWNLOAD_ERROR_DYNAMIC_INTERRUPTION + e.getMessage());
+                throw new IOException(LogInfo.LOG_DOWNLOAD_ERROR_INTERRUPTED_WAITING);
+            }
             Log.error(e.getMessage());
             throw new IOException(e.getMessage());
         }
 
         // Crear carpeta de evidencias
-        String evidencePath = getJsonString(
-                ExternalData.ED_OBJECT_WEB_DRIVER_CONFIGURATION,
-                ExternalData.ED_EVIDENCES,
-                ExternalData.ED_SOURCE
-        ) + generateFolderName();
+        String evidencePath = config().webDriverConfiguration().evidences() + generateFolderName();
 
         try {
             Files.createDirectories(Paths.get(evidencePath));
@@ -1261,17 +1513,18 @@ public class Base {
         }
     }
 
-    private void waitForFileDownload(String fileType, String downloadPath, int timeoutInSeconds) throws InterruptedException {
-        File dir = new File(downloadPath);
-        int waited = 0;
-        while (waited < timeoutInSeconds) {
-            File[] files = dir.listFiles((d, name) -> name.endsWith(fileType) &&
-                    !name.endsWith(Data.DATA_FILE_TYPE_CRDOWNLOAD));
-            if (files != null && files.length > 0) return;
-            Thread.sleep(1000);
-            waited++;
+    private void waitForFileDownload(String fileType, String downloadPath, int timeoutInSeconds) {
+        try {
+            AdaptiveWait.on(new File(downloadPath))
+                    .withTimeout(TestContext.current().budget(Duration.ofSeconds(timeoutInSeconds)))
+                    .until(dir -> {
+                        File[] files = dir.listFiles((d, name) -> name.endsWith(fileType) &&
+                                !name.endsWith(Data.DATA_FILE_TYPE_CRDOWNLOAD));
+                        return files != null && files.length > 0;
+                    });
+        } catch (TimeoutException e) {
+            throw new RuntimeException(LogInfo.LOG_DOWNLOAD_ERROR_TIMEOUT + downloadPath);
         }
-        throw new RuntimeException(LogInfo.LOG_DOWNLOAD_ERROR_TIMEOUT + downloadPath);
     }
 
     /**
@@ -1279,7 +1532,8 @@ public class Base {
      * Este método utiliza el controlador de WebDriver para recargar la página en curso.
      */
     public void refreshPage() {
-        driver.navigate().refresh();
+        clearElementCache();
+        getDriver().navigate().refresh();
     }
 
     /**
@@ -1288,7 +1542,7 @@ public class Base {
      * asociadas con la sesión del navegador.
      */
     public void clearCookies() {
-        driver.manage().deleteAllCookies();
+        getDriver().manage().deleteAllCookies();
     }
 
     /**
@@ -1296,7 +1550,7 @@ public class Base {
      * Este método utiliza el controlador de WebDriver para reducir la ventana a su estado minimizado.
      */
     public void minimizeScreen() {
-        driver.manage().window().minimize();
+        getDriver().manage().window().minimize();
     }
 
     /**
@@ -1310,7 +1564,8 @@ public class Base {
      * navegador también se cerrará.
      */
     public void closeWindow() {
-        driver.close();
+        clearElementCache();
+        getDriver().close();
     }
 
     /**
@@ -1323,7 +1578,8 @@ public class Base {
      * @param url La dirección web (URL) que se cargará en la nueva ventana.
      */
     public void openWindow(String url) {
-        WebDriver newWindow = driver.switchTo().newWindow(WindowType.WINDOW);
+        clearElementCache();
+        WebDriver newWindow = getDriver().switchTo().newWindow(WindowType.WINDOW);
         newWindow.get(url);
     }
 
@@ -1332,7 +1588,7 @@ public class Base {
      * Este método utiliza el controlador de WebDriver para expandir la ventana a su tamaño máximo disponible.
      */
     public void maximizeScreen() {
-        driver.manage().window().maximize();
+        getDriver().manage().window().maximize();
     }
 
     /**
@@ -1396,14 +1652,14 @@ public class Base {
     }
 
     /**
-     * Genera un nombre de carpeta dinámico utilizando los valores actuales de navegador, nombre de prueba y fecha.
-     * Este método concatena estas tres propiedades separadas por barras invertidas (`\`)
-     * para construir y devolver un nombre de carpeta único.
+     * Genera un nombre de carpeta dinámico utilizando el navegador, el nombre y la fecha de la prueba en ejecución.
+     * Los valores se leen del contexto de la prueba del hilo actual ({@link TestContext}), de modo que las pruebas
+     * que se ejecutan en paralelo no comparten carpeta de evidencias.
      *
-     * @return una cadena que representa el nombre de la carpeta generada en el formato: "browser\testName\date".
+     * @return una cadena que representa el nombre de la carpeta generada en el formato: "browser/testName/date".
      */
     public String generateFolderName() throws IOException {
-        return browser + "/" + testName.get() + "/" + date;
+        return TestContext.current().evidenceFolder();
     }
 
     /**
@@ -1449,7 +1705,7 @@ public class Base {
         List<String> nullLinks = new ArrayList<>();
         List<String> serverLinks = new ArrayList<>();
 
-        JavascriptExecutor js = (JavascriptExecutor) driver;
+        JavascriptExecutor js = (JavascriptExecutor) getDriver();
 
         HttpURLConnection httpURLConnection;
 
@@ -1572,10 +1828,8 @@ public class Base {
      * @return El número RUT generado, incluyendo el dígito verificador.
      */
     public String generateRUT() {
-        Random random = new Random();
-        int numero = random.nextInt(100000000); // Genera un número aleatorio de 8 dígitos
-        char digitoVerificador = calculateVerifyDigit(numero);
-        return String.format("%08d-%c", numero, digitoVerificador);
+        int numero = ThreadLocalRandom.current().nextInt(100000000); // Genera un número aleatorio de 8 dígitos
+        return RutBulkGenerator.format(numero);
     }
 
     /**
@@ -1614,7 +1868,7 @@ public class Base {
      * Configura opciones personalizadas para el navegador Chrome.
      * Este método define preferencias específicas para la descarga de archivos, activa el modo headless
      * para ejecutar el navegador sin interfaz gráfica, ajusta el tamaño de la ventana del navegador
-     * y asigna el navegador Chrome como predeterminado.
+     * y aplica la estrategia de carga de "pageLoad.strategy".
      *
      * @param downloadFilePath la ruta de directorio donde se almacenarán los archivos descargados.
      * @return un objeto `ChromeOptions` con las configuraciones personalizadas aplicadas.
@@ -1622,15 +1876,46 @@ public class Base {
      */
     public ChromeOptions chromeCustomConfiguration(String downloadFilePath) throws IOException {
         Log.info(LogInfo.LOG_CHROME_CONFIGURATION);
+        return chromeOptions(downloadFilePath, config().webDriverConfiguration().headless());
+    }
+
+    /**
+     * Configura opciones personalizadas para ejecutar Chrome con el binario liviano chrome-headless-shell.
+     * Este método aplica las mismas preferencias que {@link #chromeCustomConfiguration(String)} e indica el
+     * binario configurado en "headlessShellBinary". chrome-headless-shell siempre se ejecuta sin interfaz gráfica
+     * y no carga los componentes del navegador completo, por lo que inicia más rápido y usa menos memoria que
+     * {@code --headless=new}; no se le agrega el argumento headless.
+     *
+     * @param downloadFilePath la ruta de directorio donde se almacenarán los archivos descargados.
+     * @return un objeto `ChromeOptions` con las configuraciones personalizadas aplicadas.
+     * @throws IllegalStateException si "headlessShellBinary" no indica un archivo ejecutable.
+     * @see ChromeOptions
+     */
+    public ChromeOptions chromeHeadlessShellConfiguration(String downloadFilePath) throws IOException {
+        Log.info(LogInfo.LOG_CHROME_HEADLESS_SHELL_CONFIGURATION);
+        String binary = config().webDriverConfiguration().headlessShellBinary();
+        if (binary == null || binary.isBlank() || !Files.isExecutable(Paths.get(binary))) {
+            throw new IllegalStateException(LogInfo.LOG_CHROME_HEADLESS_SHELL_NOT_FOUND + binary);
+        }
+
+        ChromeOptions optionChrome = chromeOptions(downloadFilePath, false);
+        optionChrome.setBinary(binary);
+        return optionChrome;
+    }
+
+    /**
+     * Crea las opciones de Chrome con las preferencias de descarga, el tamaño de ventana y la estrategia de carga
+     * configurados.
+     */
+    private ChromeOptions chromeOptions(String downloadFilePath, boolean headless) {
         ChromeOptions optionChrome = new ChromeOptions();
 
         String downloadPath = (downloadFilePath != null && !downloadFilePath.isEmpty())
                 ? downloadFilePath
                 : System.getProperty(Data.DATA_SYSTEM_PROPERTY_TMPDIR) + Data.DATA_BROWSER_DEFAULT_DOWNLOAD_DIRECTORY;
 
-        String path = getJsonString(ExternalData.ED_OBJECT_WEB_DRIVER_CONFIGURATION,
-                ExternalData.ED_DOWNLOADS,
-                ExternalData.ED_SOURCE);
+        WebDriverConfiguration configuration = config().webDriverConfiguration();
+        String path = configuration.downloads();
 
         String absolutePath = Paths.get(path).toAbsolutePath().toString();
         new File(downloadPath).mkdirs();
@@ -1644,15 +1929,12 @@ public class Base {
 
         optionChrome.setExperimentalOption(Data.DATA_BROWSER_DOWNLOAD_PREFS, prefs);
 
-        if (getJsonBoolean(ExternalData.ED_OBJECT_WEB_DRIVER_CONFIGURATION,
-                ExternalData.ED_HEADLESS, ExternalData.ED_SOURCE)) {
+        if (headless) {
             optionChrome.addArguments(BrowserConfiguration.BC_PREF_HEADLESS);
         }
 
-        optionChrome.addArguments(getJsonString(ExternalData.ED_OBJECT_WEB_DRIVER_CONFIGURATION,
-                ExternalData.ED_BROWSER_SIZE, ExternalData.ED_SOURCE));
-
-        Base.browser = Data.DATA_BROWSER_CHROME;
+        optionChrome.addArguments(configuration.browserSize());
+        optionChrome.setPageLoadStrategy(PageLoadStrategy.fromString(configuration.pageLoad().strategy()));
 
         return optionChrome;
     }
@@ -1660,7 +1942,7 @@ public class Base {
     /**
      * Configura opciones personalizadas para el navegador Edge.
      * Este método activa el modo headless para ejecutar el navegador sin interfaz gráfica,
-     * ajusta el tamaño de la ventana del navegador y asigna Edge como el navegador predeterminado.
+     * ajusta el tamaño de la ventana del navegador y aplica la estrategia de carga de "pageLoad.strategy".
      *
      * @return un objeto `EdgeOptions` con las configuraciones personalizadas aplicadas.
      * @see EdgeOptions
@@ -1676,8 +1958,7 @@ public class Base {
 
         //Configurar el tamaño de la ventana
         optionEdge.addArguments(BrowserConfiguration.BC_PREF_SIZE);
-
-        Base.browser = Data.DATA_BROWSER_EDGE;
+        optionEdge.setPageLoadStrategy(PageLoadStrategy.fromString(config().webDriverConfiguration().pageLoad().strategy()));
 
         return optionEdge;
     }
@@ -1685,7 +1966,7 @@ public class Base {
     /**
      * Configura opciones personalizadas para Firefox
      * Este método activa el modo headless para ejecutar el navegador sin interfaz gráfica,
-     * ajusta el tamaño de la ventana del navegador y asigna Edge como el navegador predeterminado.
+     * ajusta el tamaño de la ventana del navegador y aplica la estrategia de carga de "pageLoad.strategy".
      *
      * @param key              Clave de la preferencia a configurar.
      * @param value            Valor entero de la preferencia.
@@ -1711,15 +1992,15 @@ public class Base {
         //Configurar el tamaño de la ventana
         optionFirefox.addArguments(BrowserConfiguration.BC_PREF_SIZE);
 
+        optionFirefox.setPageLoadStrategy(PageLoadStrategy.fromString(config().webDriverConfiguration().pageLoad().strategy()));
         optionFirefox.setProfile(profile);
-        Base.browser = Data.DATA_BROWSER_FIREFOX;
 
         return optionFirefox;
     }
 
     public boolean isAlertPresent() {
         try {
-            driver.switchTo().alert();
+            getDriver().switchTo().alert();
             return true;
         } catch (NoAlertPresentException ex) {
             return false;
@@ -1728,14 +2009,14 @@ public class Base {
 
     public void acceptAlert(){
         if (isAlertPresent()) {
-            Alert alert = driver.switchTo().alert();
+            Alert alert = getDriver().switchTo().alert();
             alert.accept();
         }
     }
 
     public void dismissAlert(){
         if (isAlertPresent()) {
-            Alert alert = driver.switchTo().alert();
+            Alert alert = getDriver().switchTo().alert();
             alert.dismiss();
         }
     }
@@ -1744,13 +2025,16 @@ public class Base {
         String originalWindow = driver.getWindowHandle();
 
         // Espera hasta que haya más de una pestaña abierta
-        new WebDriverWait(driver, Duration.ofSeconds(10))
+        AdaptiveWait.on(driver)
+                .withTimeout(TestContext.current().budget(Duration.ofSeconds(10)))
                 .until(d -> d.getWindowHandles().size() > 1);
 
         // Itera sobre los window handles y cambia a la nueva pestaña
         for (String windowHandle : driver.getWindowHandles()) {
             if (!windowHandle.equals(originalWindow)) {
                 driver.switchTo().window(windowHandle);
+                Base page = TestContext.current().page();
+                if (page != null) page.clearElementCache();
                 break;
             }
         }
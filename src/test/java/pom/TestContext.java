@@ -0,0 +1,232 @@
+package pom;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import pom.general_repository.Data;
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import utils.Log;
+
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+
+/**
+ * Contexto de la prueba en ejecución, confinado al hilo que la ejecuta.
+ *
+ * <p>
+ * Reúne lo que antes se guardaba en variables estáticas compartidas de {@link Base} (navegador, nombre de la
+ * prueba y fecha): la página con su driver, el navegador, el nombre de la prueba, el instante de inicio y la
+ * carpeta de evidencias. Como TestNG ejecuta {@code @BeforeMethod}, {@code @Test} y {@code @AfterMethod} de una
+ * misma invocación en el mismo hilo, cada prueba ve solo su propio contexto y varias pruebas de una misma clase
+ * pueden ejecutarse en paralelo ({@code parallel="methods"}) sin sobrescribir sus evidencias.
+ * </p>
+ *
+ * <p>
+ * El contexto también define el plazo de la prueba: "testBudgetSeconds" desde {@link #start(String, Base)}. Cada
+ * espera, reintento y búsqueda de {@link Base} toma su tiempo máximo de {@link #budget(Duration)}, que nunca
+ * excede el tiempo restante del plazo, de modo que una prueba contra un ambiente caído falla dentro de su plazo
+ * en lugar de acumular los tiempos máximos de cada espera.
+ * </p>
+ *
+ * <p>Ejemplo de uso:</p>
+ * <pre>
+ * {@code
+ * @BeforeMethod
+ * public void setUp(String browserType) {
+ *     TestContext.start(browserType, new Page(DriverFactory.start(browserType)));
+ * }
+ *
+ * @Test
+ * public void flujo1() {
+ *     TestContext.current().test("Flujo 1");
+ *     ...
+ * }
+ *
+ * @AfterMethod(alwaysRun = true)
+ * public void tearDown() {
+ *     TestContext.finish();
+ * }
+ * }
+ * </pre>
+ */
+public final class TestContext {
+
+    private static final String DEFAULT_TEST_NAME = "Default Test Name";
+    private static final String LOG_TEST_NAME_KEY = "testName";
+
+    private static final ThreadLocal<TestContext> CURRENT =
+            ThreadLocal.withInitial(() -> new TestContext("", null, null));
+
+    private final String browser;
+    private final Base page;
+    private final Instant deadline;
+    private final Deque<Runnable> finishActions = new ArrayDeque<>();
+    private Duration implicitWait = Duration.ZERO;
+    private String testName = DEFAULT_TEST_NAME;
+    private Instant started = Instant.now();
+    private String date = format(started);
+
+    private TestContext(String browser, Base page, Instant deadline) {
+        this.browser = browser;
+        this.page = page;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Crea el contexto de la prueba que comienza en el hilo actual, reemplazando al anterior.
+     *
+     * @param browser tipo de navegador de la prueba ("Chrome", "Edge" o "Firefox").
+     * @param page    página con la sesión de WebDriver de la prueba.
+     * @return el contexto creado.
+     */
+    public static TestContext start(String browser, Base page) {
+        long budget = ConfigurationSnapshot.current().webDriverConfiguration().testBudgetSeconds();
+        TestContext context = new TestContext(browser, page, budget > 0 ? Instant.now().plusSeconds(budget) : null);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Retorna el contexto de la prueba del hilo actual. Si no se ha iniciado ninguno, retorna un contexto sin
+     * página ni navegador.
+     *
+     * @return el contexto del hilo actual.
+     */
+    public static TestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Finaliza el contexto del hilo actual: ejecuta sus acciones de cierre en orden inverso al de registro y
+     * lo descarta, aunque alguna acción falle.
+     */
+    public static void finish() {
+        TestContext context = CURRENT.get();
+        try {
+            Runnable action;
+            while ((action = context.finishActions.pollFirst()) != null) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    Log.error(e.getMessage());
+                }
+            }
+        } finally {
+            CURRENT.remove();
+            ThreadContext.remove(LOG_TEST_NAME_KEY);
+        }
+    }
+
+    /**
+     * Registra el inicio de la prueba: su nombre, que además se agrega a cada línea del log, y su fecha.
+     *
+     * @param name nombre de la prueba.
+     */
+    public void test(String name) {
+        this.testName = name;
+        this.started = Instant.now();
+        this.date = format(started);
+        ThreadContext.put(LOG_TEST_NAME_KEY, name);
+    }
+
+    /**
+     * Registra una acción a ejecutar en {@link #finish()}, por ejemplo devolver la sesión al pool.
+     *
+     * @param action la acción de cierre.
+     */
+    public void onFinish(Runnable action) {
+        finishActions.addFirst(action);
+    }
+
+    /**
+     * Limita el tiempo máximo de una espera al tiempo restante del plazo de la prueba.
+     *
+     * @param requested el tiempo máximo propio de la espera.
+     * @return el menor entre el tiempo pedido y el restante; el pedido si el contexto no tiene plazo.
+     * @throws TimeoutException si el plazo de la prueba ya se agotó.
+     */
+    public Duration budget(Duration requested) {
+        if (deadline == null) return requested;
+        Duration remaining = Duration.between(Instant.now(), deadline);
+        if (remaining.isNegative() || remaining.isZero()) {
+            throw new TimeoutException(LogInfo.LOG_TEST_BUDGET_EXHAUSTED + testName);
+        }
+        return requested.compareTo(remaining) < 0 ? requested : remaining;
+    }
+
+    /**
+     * Retorna el tiempo que {@link Base#findElement(org.openqa.selenium.By)} espera a que el elemento exista.
+     *
+     * @return la espera implícita de la prueba; 0 por defecto.
+     */
+    public Duration implicitWait() {
+        return implicitWait;
+    }
+
+    /**
+     * Cambia la espera implícita de la prueba. No se aplica al driver, cuya espera implícita se mantiene en 0 para
+     * no sumarse a cada intento de las esperas explícitas.
+     *
+     * @param implicitWait el tiempo de espera de las búsquedas.
+     */
+    public void implicitWait(Duration implicitWait) {
+        this.implicitWait = implicitWait;
+    }
+
+    /**
+     * Retorna la página de la prueba.
+     *
+     * @return la página, o null si el contexto no se creó con {@link #start(String, Base)}.
+     */
+    public Base page() {
+        return page;
+    }
+
+    /**
+     * Retorna el driver de la prueba, esperando a que termine de iniciarse si aún está en proceso.
+     *
+     * @return el driver, o null si el contexto no tiene página.
+     */
+    public WebDriver driver() {
+        return page == null ? null : page.getDriver();
+    }
+
+    public String browser() {
+        return browser;
+    }
+
+    public String testName() {
+        return testName;
+    }
+
+    public Instant started() {
+        return started;
+    }
+
+    /**
+     * Retorna la fecha de inicio de la prueba con el formato {@link Data#DATA_FECHA_DDMMYYYY}.
+     *
+     * @return la fecha formateada.
+     */
+    public String date() {
+        return date;
+    }
+
+    /**
+     * Retorna la carpeta de evidencias de la prueba, relativa a la carpeta "evidences" de config.json.
+     *
+     * @return la carpeta con el formato "navegador/nombre de la prueba/fecha".
+     */
+    public String evidenceFolder() {
+        return browser + "/" + testName + "/" + date;
+    }
+
+    private static String format(Instant instant) {
+        return new SimpleDateFormat(Data.DATA_FECHA_DDMMYYYY).format(Date.from(instant));
+    }
+}
@@ -4,23 +4,30 @@ import io.qameta.allure.Allure;
 import org.openqa.selenium.WebDriver;
 import pom.Base;
 import pom.auto.elements.Elements;
-import pom.auto.repository.ExternalData_MICHA;
 import pom.auto.repository.TestSteps;
+import pom.TestContext;
+import utils.RutLease;
+import utils.RutPool;
+
+import java.time.Duration;
+import java.util.List;
+
+import java.util.concurrent.CompletableFuture;
 
 public class Page extends Base {
     public Page(WebDriver driver) {
         super(driver);
     }
 
+    public Page(CompletableFuture<WebDriver> driver) {
+        super(driver);
+    }
+
     public void iniciarSesion() {
         Allure.step(TestSteps.TS_MICHA_LOGIN, (step) -> {
             waitForElementToBeClickable(Elements.ELM_MICHA_BUTTON_INICIAR_SESION);
-            sendInputText(getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_CREDENCIALES,
-                            ExternalData_MICHA.ED_MICHA_CREDENCIALES_USER_RUN, ExternalData_MICHA.ED_MICHA_SRC),
-                    Elements.ELM_MICHA_TEXTBOX_RUN);
-            sendInputText(getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_CREDENCIALES,
-                            ExternalData_MICHA.ED_MICHA_CREDENCIALES_USER_PASS, ExternalData_MICHA.ED_MICHA_SRC),
-                    Elements.ELM_MICHA_TEXTBOX_PASS);
+            sendInputText(config().credenciales().userRun(), Elements.ELM_MICHA_TEXTBOX_RUN);
+            sendInputText(config().credenciales().pass(), Elements.ELM_MICHA_TEXTBOX_PASS);
             screenShot();
             waitForElementToBeClickable(Elements.ELM_MICHA_BUTTON_INGRESA);
 
@@ -37,6 +44,28 @@ public class Page extends Base {
         });
     }
 
+    /**
+     * Obtiene de {@link RutPool} uno de los RUT candidatos del flujo y realiza la impersonalización con él.
+     * El préstamo debe mantenerse abierto mientras dure el flujo que utiliza al usuario impersonalizado; si la
+     * impersonalización falla, se libera de inmediato.
+     *
+     * @param candidates los RUT que sirven para el flujo, por ejemplo "impersonalizacion.rutF1" de config.json.
+     * @param mode       {@link RutLease.Mode#EXCLUSIVE} si el flujo modifica datos del usuario;
+     *                   {@link RutLease.Mode#SHARED} si solo los consulta.
+     * @return el préstamo del RUT impersonalizado.
+     */
+    public RutLease impersonalizador(List<String> candidates, RutLease.Mode mode) {
+        RutLease lease = RutPool.shared().acquire(candidates, mode,
+                TestContext.current().budget(Duration.ofSeconds(RutPool.DEFAULT_TIME_OUT_SECONDS)));
+        try {
+            impersonalizador(lease.rut());
+            return lease;
+        } catch (RuntimeException | Error e) {
+            lease.close();
+            throw e;
+        }
+    }
+
     public void flujo1() {
         Allure.step(TestSteps.TS_MICHA_Flujo_1, (step) -> {
             waitForElementToBeClickable(Elements.ELM_MICHA_BUTTON_MI_PERFIL);
@@ -44,22 +73,16 @@ public class Page extends Base {
             waitForElementToBeClickable(Elements.ELM_MICHA_LINK_MI_PERFIL_EDITAR);
             waitForVisibilityOfElementLocated(Elements.ELM_MICHA_TEXTBOX_MI_PERFIL_DIRECCION);
             clearText(Elements.ELM_MICHA_TEXTBOX_MI_PERFIL_DIRECCION);
-            sendInputText(getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_CONTACTO,
-                            ExternalData_MICHA.ED_MICHA_CONTACTO_DIRECCION, ExternalData_MICHA.ED_MICHA_SRC),
-                    Elements.ELM_MICHA_TEXTBOX_MI_PERFIL_DIRECCION);
+            sendInputText(config().datosContacto().direccion(), Elements.ELM_MICHA_TEXTBOX_MI_PERFIL_DIRECCION);
 
             waitForElementToBeClickable(Elements.ELM_MICHA_CONTACTO_REGION);
             waitForElementToBeClickable(Elements.ELM_MICHA_CONTACTO_REGION_OPCION);
             waitForElementToBeClickable(Elements.ELM_MICHA_CONTACTO_COMUNA);
             waitForElementToBeClickable(Elements.ELM_MICHA_CONTACTO_COMUNA_OPCION);
             clearText(Elements.ELM_MICHA_TEXTBOX_MI_PERFIL_FONO);
-            sendInputText(getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_CONTACTO,
-                            ExternalData_MICHA.ED_MICHA_CONTACTO_FONO, ExternalData_MICHA.ED_MICHA_SRC),
-                    Elements.ELM_MICHA_TEXTBOX_MI_PERFIL_FONO);
+            sendInputText(config().datosContacto().fono(), Elements.ELM_MICHA_TEXTBOX_MI_PERFIL_FONO);
             clearText(Elements.ELM_MICHA_TEXTBOX_MI_PERFIL_EMAIL);
-            sendInputText(getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_CONTACTO,
-                            ExternalData_MICHA.ED_MICHA_CONTACTO_EMAIL, ExternalData_MICHA.ED_MICHA_SRC),
-                    Elements.ELM_MICHA_TEXTBOX_MI_PERFIL_EMAIL);
+            sendInputText(config().datosContacto().email(), Elements.ELM_MICHA_TEXTBOX_MI_PERFIL_EMAIL);
             waitForElementToBeClickable(Elements.ELM_MICHA_BUTTON_MI_PERFIL_GUARDAR);
             waitForVisibilityOfElementLocated(Elements.ELM_MICHA_LBL_MI_PERFIL_MENSAJE_CAMBIOS_GUARDADOS);
             screenShot();
@@ -71,7 +94,7 @@ public class Page extends Base {
             waitForElementToBeClickable(Elements.ELM_MICHA_RSH_LINK_REGISTRO_SOCIAL);
             waitForElementToBeClickable(Elements.ELM_MICHA_BUTTON_RSH_REGISTRO_SOCIAL);
             waitForElementToBeClickable(Elements.ELM_MICHA_BUTTON_RSH_OBTENER_CARTOLA);
-            switchToNewTab(this.driver);
+            switchToNewTab(getDriver());
             waitForVisibilityOfElementLocated(Elements.ELM_MICHA_LOGO_RSH);
             screenShot();
         });
@@ -82,7 +105,7 @@ public class Page extends Base {
             waitForElementToBeClickable(Elements.ELM_MICHA_DF_LINK_DEUDAS_FINANCIERAS);
             waitForElementToBeClickable(Elements.ELM_MICHA_DF_BUTTON_CONOCER_DEUDA);
             waitForElementToBeClickable(Elements.ELM_MICHA_DF_LINK_CONTINUAR);
-            switchToNewTab(this.driver);
+            switchToNewTab(getDriver());
             waitForVisibilityOfElementLocated(Elements.ELM_MICHA_DF_IMG_CONOCE_TU_DEUDA);
             screenShot();
         });
@@ -92,7 +115,7 @@ public class Page extends Base {
         Allure.step(TestSteps.TS_MICHA_Flujo_5, (step) -> {
             waitForElementToBeClickable(Elements.ELM_MICHA_BS_LINK_BENEFICIOS_SOCIALES);
             waitForElementToBeClickable(Elements.ELM_MICHA_BS_LINK_BENEFICIOS_SOCIALES_INFORMATE);
-            switchToNewTab(this.driver);
+            switchToNewTab(getDriver());
             waitForVisibilityOfElementLocated(Elements.ELM_MICHA_BS_LBL_MENSAJE_BONOS);
             screenShot();
         });
@@ -103,7 +126,7 @@ public class Page extends Base {
             waitForElementToBeClickable(Elements.ELM_MICHA_MC_LINK_MIS_CAPACITACIONES);
             waitForElementToBeClickable(Elements.ELM_MICHA_MC_BUTTON_SENCE);
             waitForElementToBeClickable(Elements.ELM_MICHA_MC_BUTTON_CONTINUAR);
-            switchToNewTab(this.driver);
+            switchToNewTab(getDriver());
             waitForVisibilityOfElementLocated(Elements.ELM_MICHA_MC_LINK_VALIDATION_SENCE);
             screenShot();
         });
@@ -113,27 +136,27 @@ public class Page extends Base {
         Allure.step(TestSteps.TS_MICHA_Flujo_7, (step) -> {
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_PAGINA_INICIO);
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_MI_PERFIL);
-            threadWait(3000L);
+            waitForAppStable();
             screenShot();
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_PAGINA_INICIO);
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_MI_REGISTRO_SOCIAL);
-            threadWait(3000L);
+            waitForAppStable();
             screenShot();
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_PAGINA_INICIO);
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_MIS_DEUDAS_FINANCIERAS);
-            threadWait(3000L);
+            waitForAppStable();
             screenShot();
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_PAGINA_INICIO);
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_MIS_PAGOS_BENEFICIOS_SOCIALES);
-            threadWait(3000L);
+            waitForAppStable();
             screenShot();
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_PAGINA_INICIO);
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_MIS_CAPACITACIONES);
-            threadWait(3000L);
+            waitForAppStable();
             screenShot();
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_PAGINA_INICIO);
             waitForElementToBeClickable(Elements.ELM_MICHA_AR_LINK_MI_SEGURO_SOCIAL);
-            threadWait(3000L);
+            waitForAppStable();
             screenShot();
         });
     }
@@ -153,7 +176,7 @@ public class Page extends Base {
             waitForElementToBeClickable(Elements.ELM_MICHA_MSS_LINK_MI_SEGURO_SOCIAL);
             waitForElementToBeClickable(Elements.ELM_MICHA_MSS_BUTTON_REVISAR_INFORMACION);
             waitForElementToBeClickable(Elements.ELM_MICHA_MSS_LINK_CONTINUAR);
-            switchToNewTab(this.driver);
+            switchToNewTab(getDriver());
             waitForVisibilityOfElementLocated(Elements.ELM_MICHA_MSS_VALIDATION_SEGURO_SOCIAL);
             screenShot();
         });
@@ -164,7 +187,7 @@ public class Page extends Base {
             waitForElementToBeClickable(Elements.ELM_MICHA_MC_LINK_MIS_CAPACITACIONES);
             waitForElementToBeClickable(Elements.ELM_MICHA_MC_BUTTON_REVISAR_CURSOS_SENCE);
             waitForElementToBeClickable(Elements.ELM_MICHA_MC_BUTTON_CONTINUAR);
-            switchToNewTab(this.driver);
+            switchToNewTab(getDriver());
             waitForVisibilityOfElementLocated(Elements.ELM_MICHA_MC_LINK_VALIDATION_SENCE);
             screenShot();
         });
@@ -175,7 +198,7 @@ public class Page extends Base {
             waitForElementToBeClickable(Elements.ELM_MICHA_RSH_LINK_REGISTRO_SOCIAL);
             waitForElementToBeClickable(Elements.ELM_MICHA_BUTTON_RSH_OBTENER_CARTOLA);
             waitForElementToBeClickable(Elements.ELM_MICHA_BUTTON_RSH_OBTENER_CARTOLA_2);
-            switchToNewTab(this.driver);
+            switchToNewTab(getDriver());
             waitForVisibilityOfElementLocated(Elements.ELM_MICHA_LOGO_RSH);
             screenShot();
         });
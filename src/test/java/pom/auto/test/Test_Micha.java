@@ -1,102 +1,124 @@
 package pom.auto.test;
 
 import io.qameta.allure.*;
-import org.apache.logging.log4j.ThreadContext;
-import org.openqa.selenium.WebDriver;
-import org.testng.annotations.AfterTest;
-import org.testng.annotations.BeforeClass;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
 import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
-import pom.Base;
+import pom.TestContext;
+import pom.auto.elements.Elements;
 import pom.auto.page.Page;
-import pom.auto.repository.ExternalData_MICHA;
 import pom.auto.repository.TestDescription;
-import pom.general_repository.BrowserConfiguration;
+import pom.driver.ConcurrencyController;
+import pom.driver.DriverFactory;
+import pom.driver.DriverPool;
+import pom.driver.DriverStartupListener;
+import pom.driver.SessionStateCache;
 import pom.general_repository.Data;
-import pom.general_repository.ExternalData;
 import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.general_repository.config.WebDriverConfiguration;
+import pom.wait.LocatorTelemetry;
+import pom.wait.LocatorTelemetryListener;
 import utils.Log;
+import utils.RutLease;
 
 import java.io.IOException;
 
-import static pom.Base.testName;
-
+@Listeners({DriverStartupListener.class, LocatorTelemetryListener.class})
 public class Test_Micha {
 
     /**
-     * Objeto WebDriver utilizado para controlar el navegador en las pruebas automatizadas.
+     * Retorna la página de la prueba en ejecución, que representa las páginas del sistema MiCHA.
      * <p>
-     * Este objeto se inicializa según el tipo de navegador configurado en el método de preparación.
-     * Permite interactuar con el navegador durante la ejecución de las pruebas.
+     * Cada invocación de prueba tiene su propia página y sesión de WebDriver, guardadas en el contexto del hilo
+     * que la ejecuta ({@link TestContext}); así varios flujos de esta clase pueden ejecutarse en paralelo.
      * </p>
+     *
+     * @return la página creada en {@link #setUp(String)} para la prueba actual.
      */
-    public WebDriver driver;
+    public Page page() {
+        return (Page) TestContext.current().page();
+    }
 
     /**
-     * Objeto de la clase {@link Page} que representa las páginas del sistema CRM.
+     * Configura el entorno inicial de cada prueba basado en el tipo de navegador proporcionado.
      * <p>
-     * Esta variable se utiliza para realizar operaciones específicas en las páginas
-     * del sistema durante la ejecución de pruebas automatizadas. Se inicializa y configura
-     * según las necesidades del flujo de prueba.
+     * Este método está marcado con {@link BeforeMethod} y se ejecuta antes de cada prueba, en el mismo hilo que
+     * ella. Utiliza el parámetro {@code BrowserType} para determinar el navegador a utilizar. Si "concurrency"
+     * está activo, primero se espera un cupo de {@link ConcurrencyController}, de modo que las pruebas hagan fila
+     * en lugar de sobrecargar el equipo. Si el pool de sesiones está activo, se presta una sesión desde
+     * {@link DriverPool}; en caso contrario se toma una de las sesiones iniciadas al comienzo de la suite por
+     * {@link DriverFactory}. En ambos casos la sesión se inicia en segundo plano y se espera recién al visitar la
+     * URL de pruebas. Si "sessionCache" está activo, el inicio de sesión se reutiliza mediante
+     * {@link SessionStateCache}.
      * </p>
-     */
-    public Page page;
-
-    /**
-     * Configura el entorno inicial para la ejecución de pruebas basado en el tipo de navegador proporcionado.
+     *
      * <p>
-     * Este método está marcado con {@link BeforeClass} y se ejecuta antes de que inicie cualquier clase de prueba.
-     * Utiliza el parámetro {@code BrowserType} para determinar el navegador a configurar. Según el navegador
-     * especificado, inicializa el WebDriver correspondiente y aplica configuraciones personalizadas.
+     * La página, el navegador y las acciones de cierre (devolver la sesión y el cupo) quedan en el
+     * {@link TestContext} de la prueba, que {@link #tearDown()} finaliza.
      * </p>
      *
      * <p>Caso de uso de navegadores:</p>
      * <ul>
      *   <li><b>Chrome:</b> Configuración personalizada usando {@code chromeDriverConnectionOptions}.</li>
+     *   <li><b>ChromeHeadlessShell:</b> Chrome con el binario chrome-headless-shell, usando
+     *   {@code chromeHeadlessShellConfiguration}.</li>
      *   <li><b>Edge:</b> Configuración personalizada usando {@code edgeConnectionOptions}.</li>
      *   <li><b>Firefox:</b> Configuración personalizada usando {@code firefoxDriverConnectionOptions}.</li>
      * </ul>
      *
      * @param browserType Tipo de navegador que se va a configurar (por ejemplo, "Chrome", "Edge" o "Firefox").
-     * @throws IOException si ocurre un problema al aplicar configuraciones específicas del navegador.
      */
-    @BeforeClass
+    @BeforeMethod
     @Parameters({"BrowserType"})
-    public void setUp(String browserType) throws IOException {
-        switch (browserType) {
-            case "Chrome":
-                page = new Page(driver);
-                page.chromeDriverConnectionOptions(page.chromeCustomConfiguration(page.getJsonString(
-                        ExternalData.ED_OBJECT_WEB_DRIVER_CONFIGURATION,
-                        ExternalData.ED_DOWNLOADS,
-                        ExternalData.ED_SOURCE)));
-                break;
-            case "Edge":
-                page = new Page(driver);
-                page.edgeConnectionOptions(page.edgeCustomConfiguration());
-                break;
-            case "Firefox":
-                page = new Page(driver);
-                page.firefoxDriverConnectionOptions(page.firefoxCustomConfiguration(
-                        BrowserConfiguration.BC_PREF_DOWNLOAD_DIRECTORY_FOLDER_LIST_KEY_FIREFOX,
-                        BrowserConfiguration.BC_PREF_DOWNLOAD_DIRECTORY_FOLDER_LIST_VALUE_FIREFOX,
-                        BrowserConfiguration.BC_PREF_DOWNLOAD_DIRECTORY_FIREFOX, page.getJsonString(
-                                ExternalData.ED_OBJECT_WEB_DRIVER_CONFIGURATION, ExternalData.ED_DOWNLOADS,
-                                ExternalData.ED_SOURCE)));
-                break;
-            default:
+    public void setUp(String browserType) {
+        WebDriverConfiguration configuration = ConfigurationSnapshot.current().webDriverConfiguration();
+
+        ConcurrencyController controller = ConcurrencyController.enabled() ? ConcurrencyController.shared() : null;
+        if (controller != null) {
+            controller.acquire();
         }
 
-        if (!page.getJsonBoolean(ExternalData.ED_OBJECT_WEB_DRIVER_CONFIGURATION, ExternalData.ED_HEADLESS,
-                ExternalData.ED_SOURCE)) {
-            page.maximizeScreen();
+        // La sesión puede seguir iniciándose; se espera recién cuando la prueba usa el driver por primera vez
+        Page page;
+        Runnable closeSession;
+        try {
+            if (DriverPool.enabled()) {
+                DriverPool pool = DriverPool.of(browserType);
+                page = new Page(pool.borrow());
+                closeSession = () -> pool.giveBack(page.getDriverAsync());
+            } else {
+                page = new Page(DriverFactory.start(browserType));
+                closeSession = page::quitDriver;
+            }
+        } catch (RuntimeException e) {
+            if (controller != null) controller.release();
+            throw e;
         }
 
-        page.visitUrl(page.getJsonString(ExternalData.ED_OBJECT_WEB_DRIVER_CONFIGURATION,
-                ExternalData.ED_URL_TEST,
-                ExternalData.ED_SOURCE));
+        // Las acciones de cierre se ejecutan en orden inverso: primero se devuelve la sesión y luego el cupo
+        TestContext context = TestContext.start(browserType, page);
+        if (controller != null) {
+            context.onFinish(controller::release);
+        }
+        context.onFinish(closeSession);
 
-        page.iniciarSesion();
+        // chrome-headless-shell no tiene ventana que maximizar
+        if (!configuration.headless() && !browserType.equals("ChromeHeadlessShell")) {
+            page.maximizeScreen();
+        }
+
+        if (SessionStateCache.enabled()) {
+            SessionStateCache.shared().authenticate(page, configuration.urlTest(),
+                    Elements.ELM_MICHA_TEXTBOX_IMPERSONALIZADOR, page::iniciarSesion);
+        } else {
+            page.visitUrl(configuration.urlTest());
+            page.iniciarSesion();
+        }
     }
 
     /**
@@ -136,14 +158,12 @@ public class Test_Micha {
     public void flujo1() throws IOException {
         Log.info(LogInfo.LOG_SEPARATE);
         Log.info(LogInfo.LOG_TEST_START + TestDescription.DESC_MICHA_TEST_NAME_F1);
-        Base.date = page.getDate(Data.DATA_FECHA_DDMMYYYY);
-        testName.set(TestDescription.DESC_MICHA_TEST_NAME_F1);
-
-        ThreadContext.put("testName", testName.get());
+        TestContext.current().test(TestDescription.DESC_MICHA_TEST_NAME_F1);
         
-        page.impersonalizador(page.getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_IMPERSONALIZACION,
-                ExternalData_MICHA.ED_MICHA_IMPERSONALIZACION_RUT_F1, ExternalData_MICHA.ED_MICHA_SRC));
-        page.flujo1();
+        try (RutLease heldForScope = page().impersonalizador(page().config().impersonalizacion().rutF1(),
+                RutLease.Mode.EXCLUSIVE)) {
+            page().flujo1();
+        }
     }
 
     @Test
@@ -155,14 +175,12 @@ public class Test_Micha {
     public void flujo2() throws IOException {
         Log.info(LogInfo.LOG_SEPARATE);
         Log.info(LogInfo.LOG_TEST_START + TestDescription.DESC_MICHA_TEST_NAME_F2);
-        Base.date = page.getDate(Data.DATA_FECHA_DDMMYYYY);
-        testName.set(TestDescription.DESC_MICHA_TEST_NAME_F2);
+        TestContext.current().test(TestDescription.DESC_MICHA_TEST_NAME_F2);
 
-        ThreadContext.put("testName", testName.get());
-
-        page.impersonalizador(page.getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_IMPERSONALIZACION,
-                ExternalData_MICHA.ED_MICHA_IMPERSONALIZACION_RUT_F2, ExternalData_MICHA.ED_MICHA_SRC));
-        page.flujo2();
+        try (RutLease heldForScope = page().impersonalizador(page().config().impersonalizacion().rutF2(),
+                RutLease.Mode.SHARED)) {
+            page().flujo2();
+        }
     }
 
     @Test
@@ -174,14 +192,11 @@ public class Test_Micha {
     public void flujo3() throws IOException {
         Log.info(LogInfo.LOG_SEPARATE);
         Log.info(LogInfo.LOG_TEST_START + TestDescription.DESC_MICHA_TEST_NAME_F3);
-        Base.date = page.getDate(Data.DATA_FECHA_DDMMYYYY);
-        testName.set(TestDescription.DESC_MICHA_TEST_NAME_F3);
-
-        ThreadContext.put("testName", testName.get());
+        TestContext.current().test(TestDescription.DESC_MICHA_TEST_NAME_F3);
 
-        page.impersonalizador(page.getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_IMPERSONALIZACION,
-                ExternalData_MICHA.ED_MICHA_IMPERSONALIZACION_RUT_F3, ExternalData_MICHA.ED_MICHA_SRC));
-        
+        try (RutLease heldForScope = page().impersonalizador(page().config().impersonalizacion().rutF3(),
+                RutLease.Mode.SHARED)) {
+        }
     }
 
     @Test
@@ -193,14 +208,12 @@ public class Test_Micha {
     public void flujo4() throws IOException {
         Log.info(LogInfo.LOG_SEPARATE);
         Log.info(LogInfo.LOG_TEST_START + TestDescription.DESC_MICHA_TEST_NAME_F4);
-        Base.date = page.getDate(Data.DATA_FECHA_DDMMYYYY);
-        testName.set(TestDescription.DESC_MICHA_TEST_NAME_F4);
+        TestContext.current().test(TestDescription.DESC_MICHA_TEST_NAME_F4);
 
-        ThreadContext.put("testName", testName.get());
-
-        page.impersonalizador(page.getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_IMPERSONALIZACION,
-                ExternalData_MICHA.ED_MICHA_IMPERSONALIZACION_RUT_F4, ExternalData_MICHA.ED_MICHA_SRC));
-        page.flujo4();
+        try (RutLease heldForScope = page().impersonalizador(page().config().impersonalizacion().rutF4(),
+                RutLease.Mode.SHARED)) {
+            page().flujo4();
+        }
     }
 
     @Test
@@ -212,14 +225,12 @@ public class Test_Micha {
     public void flujo5() throws IOException {
         Log.info(LogInfo.LOG_SEPARATE);
         Log.info(LogInfo.LOG_TEST_START + TestDescription.DESC_MICHA_TEST_NAME_F5);
-        Base.date = page.getDate(Data.DATA_FECHA_DDMMYYYY);
-        testName.set(TestDescription.DESC_MICHA_TEST_NAME_F5);
-
-        ThreadContext.put("testName", testName.get());
+        TestContext.current().test(TestDescription.DESC_MICHA_TEST_NAME_F5);
 
-        page.impersonalizador(page.getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_IMPERSONALIZACION,
-                ExternalData_MICHA.ED_MICHA_IMPERSONALIZACION_RUT_F5, ExternalData_MICHA.ED_MICHA_SRC));
-        page.flujo5();
+        try (RutLease heldForScope = page().impersonalizador(page().config().impersonalizacion().rutF5(),
+                RutLease.Mode.SHARED)) {
+            page().flujo5();
+        }
     }
 
     @Test
@@ -231,14 +242,12 @@ public class Test_Micha {
     public void flujo6() throws IOException {
         Log.info(LogInfo.LOG_SEPARATE);
         Log.info(LogInfo.LOG_TEST_START + TestDescription.DESC_MICHA_TEST_NAME_F6);
-        Base.date = page.getDate(Data.DATA_FECHA_DDMMYYYY);
-        testName.set(TestDescription.DESC_MICHA_TEST_NAME_F6);
-
-        ThreadContext.put("testName", testName.get());
+        TestContext.current().test(TestDescription.DESC_MICHA_TEST_NAME_F6);
 
-        page.impersonalizador(page.getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_IMPERSONALIZACION,
-                ExternalData_MICHA.ED_MICHA_IMPERSONALIZACION_RUT_F6, ExternalData_MICHA.ED_MICHA_SRC));
-        page.flujo6();
+        try (RutLease heldForScope = page().impersonalizador(page().config().impersonalizacion().rutF6(),
+                RutLease.Mode.SHARED)) {
+            page().flujo6();
+        }
     }
 
     @Test
@@ -250,14 +259,12 @@ public class Test_Micha {
     public void flujo7() throws IOException {
         Log.info(LogInfo.LOG_SEPARATE);
         Log.info(LogInfo.LOG_TEST_START + TestDescription.DESC_MICHA_TEST_NAME_F7);
-        Base.date = page.getDate(Data.DATA_FECHA_DDMMYYYY);
-        testName.set(TestDescription.DESC_MICHA_TEST_NAME_F7);
+        TestContext.current().test(TestDescription.DESC_MICHA_TEST_NAME_F7);
 
-        ThreadContext.put("testName", testName.get());
-
-        page.impersonalizador(page.getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_IMPERSONALIZACION,
-                ExternalData_MICHA.ED_MICHA_IMPERSONALIZACION_RUT_F7, ExternalData_MICHA.ED_MICHA_SRC));
-        page.flujo7();
+        try (RutLease heldForScope = page().impersonalizador(page().config().impersonalizacion().rutF7(),
+                RutLease.Mode.SHARED)) {
+            page().flujo7();
+        }
     }
 
     @Test
@@ -269,14 +276,12 @@ public class Test_Micha {
     public void flujo8() throws IOException {
         Log.info(LogInfo.LOG_SEPARATE);
         Log.info(LogInfo.LOG_TEST_START + TestDescription.DESC_MICHA_TEST_NAME_F8);
-        Base.date = page.getDate(Data.DATA_FECHA_DDMMYYYY);
-        testName.set(TestDescription.DESC_MICHA_TEST_NAME_F8);
-
-        ThreadContext.put("testName", testName.get());
+        TestContext.current().test(TestDescription.DESC_MICHA_TEST_NAME_F8);
 
-        page.impersonalizador(page.getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_IMPERSONALIZACION,
-                ExternalData_MICHA.ED_MICHA_IMPERSONALIZACION_RUT_F8, ExternalData_MICHA.ED_MICHA_SRC));
-        page.flujo8();
+        try (RutLease heldForScope = page().impersonalizador(page().config().impersonalizacion().rutF8(),
+                RutLease.Mode.SHARED)) {
+            page().flujo8();
+        }
     }
 
     @Test
@@ -288,14 +293,12 @@ public class Test_Micha {
     public void flujo9() throws IOException {
         Log.info(LogInfo.LOG_SEPARATE);
         Log.info(LogInfo.LOG_TEST_START + TestDescription.DESC_MICHA_TEST_NAME_F9);
-        Base.date = page.getDate(Data.DATA_FECHA_DDMMYYYY);
-        testName.set(TestDescription.DESC_MICHA_TEST_NAME_F9);
-
-        ThreadContext.put("testName", testName.get());
+        TestContext.current().test(TestDescription.DESC_MICHA_TEST_NAME_F9);
 
-        page.impersonalizador(page.getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_IMPERSONALIZACION,
-                ExternalData_MICHA.ED_MICHA_IMPERSONALIZACION_RUT_F9, ExternalData_MICHA.ED_MICHA_SRC));
-        page.flujo9();
+        try (RutLease heldForScope = page().impersonalizador(page().config().impersonalizacion().rutF9(),
+                RutLease.Mode.SHARED)) {
+            page().flujo9();
+        }
     }
 
     @Test
@@ -307,14 +310,12 @@ public class Test_Micha {
     public void flujo10() throws IOException {
         Log.info(LogInfo.LOG_SEPARATE);
         Log.info(LogInfo.LOG_TEST_START + TestDescription.DESC_MICHA_TEST_NAME_F10);
-        Base.date = page.getDate(Data.DATA_FECHA_DDMMYYYY);
-        testName.set(TestDescription.DESC_MICHA_TEST_NAME_F10);
-
-        ThreadContext.put("testName", testName.get());
+        TestContext.current().test(TestDescription.DESC_MICHA_TEST_NAME_F10);
 
-        page.impersonalizador(page.getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_IMPERSONALIZACION,
-                ExternalData_MICHA.ED_MICHA_IMPERSONALIZACION_RUT_F10, ExternalData_MICHA.ED_MICHA_SRC));
-        page.flujo10();
+        try (RutLease heldForScope = page().impersonalizador(page().config().impersonalizacion().rutF10(),
+                RutLease.Mode.SHARED)) {
+            page().flujo10();
+        }
     }
 
     @Test
@@ -326,26 +327,38 @@ public class Test_Micha {
     public void flujo12() throws IOException {
         Log.info(LogInfo.LOG_SEPARATE);
         Log.info(LogInfo.LOG_TEST_START + TestDescription.DESC_MICHA_TEST_NAME_F12);
-        Base.date = page.getDate(Data.DATA_FECHA_DDMMYYYY);
-        testName.set(TestDescription.DESC_MICHA_TEST_NAME_F12);
+        TestContext.current().test(TestDescription.DESC_MICHA_TEST_NAME_F12);
 
-        ThreadContext.put("testName", testName.get());
+        try (RutLease heldForScope = page().impersonalizador(page().config().impersonalizacion().rutF12(),
+                RutLease.Mode.SHARED)) {
+            page().flujo12();
+        }
+    }
 
-        page.impersonalizador(page.getJsonString(ExternalData_MICHA.ED_MICHA_OBJECT_IMPERSONALIZACION,
-                ExternalData_MICHA.ED_MICHA_IMPERSONALIZACION_RUT_F12, ExternalData_MICHA.ED_MICHA_SRC));
-        page.flujo12();
+    /**
+     * Finaliza la prueba después de su ejecución.
+     * <p>
+     * Este método está marcado con {@link AfterMethod} y se ejecuta después de cada prueba, aunque haya fallado.
+     * Finaliza el {@link TestContext} de la prueba, lo que cierra su sesión (o la devuelve a {@link DriverPool}
+     * si el pool de sesiones está activo) y devuelve el cupo de {@link ConcurrencyController}.
+     * </p>
+     */
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        TestContext.finish();
     }
 
     /**
-     * Finaliza la sesión del WebDriver después de que se ejecuten las pruebas.
+     * Emite el reporte de {@link LocatorTelemetry} de la suite.
      * <p>
-     * Este método está marcado con {@link AfterTest} y se encarga de liberar
-     * los recursos utilizados por el WebDriver. Se ejecuta después de la finalización
-     * de todas las pruebas en la clase.
+     * Este método está marcado con {@link AfterSuite}, por lo que Allure lo registra como cierre de la suite y el
+     * reporte queda adjunto a él, visible en el cierre de cada prueba.
      * </p>
+     *
+     * @param context contexto de TestNG, del cual se obtiene el nombre de la suite.
      */
-    @AfterTest
-    public void afterClass() {
-        page.quitDriver();
+    @AfterSuite(alwaysRun = true)
+    public void reportTelemetry(ITestContext context) {
+        LocatorTelemetry.report(context.getSuite().getName());
     }
 }
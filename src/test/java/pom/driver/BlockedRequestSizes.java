@@ -0,0 +1,132 @@
+package pom.driver;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.general_repository.config.WebDriverConfiguration;
+import utils.Log;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tamaños medidos, en bytes, de las solicitudes que coinciden con cada patrón de la lista de bloqueo de red.
+ *
+ * <p>
+ * Una solicitud bloqueada nunca se descarga, por lo que su tamaño solo se conoce midiéndolo en una ejecución sin
+ * bloqueo. En las suites con "networkBlocking.enabled" en false, {@link NetworkBlocker} registra el
+ * {@code encodedDataLength} de {@code Network.loadingFinished} de cada solicitud que coincide con un patrón de la
+ * lista de bloqueo. El historial, limitado a los últimos "maxSamples" tamaños por patrón, se guarda en
+ * "networkSizes.history" al finalizar la suite. En las suites con bloqueo, cada solicitud bloqueada se cuenta con el
+ * tamaño promedio de su patrón, o con 0 si el patrón aún no se ha medido.
+ * </p>
+ */
+public final class BlockedRequestSizes {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final TypeReference<Map<String, List<Long>>> HISTORY_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * Tamaños recientes, en bytes, por patrón de la lista de bloqueo.
+     */
+    private static final Map<String, Deque<Long>> HISTORY = new ConcurrentHashMap<>();
+    private static volatile boolean loaded;
+    private static volatile boolean modified;
+
+    private BlockedRequestSizes() {
+    }
+
+    private static WebDriverConfiguration.NetworkSizes configuration() {
+        return ConfigurationSnapshot.current().webDriverConfiguration().networkSizes();
+    }
+
+    /**
+     * Registra el tamaño de una solicitud descargada que coincide con un patrón de la lista de bloqueo.
+     *
+     * @param pattern el patrón de la lista de bloqueo.
+     * @param bytes   el tamaño transferido, según {@code encodedDataLength}.
+     */
+    public static void record(String pattern, long bytes) {
+        load();
+        int maxSamples = Math.max(1, configuration().maxSamples());
+        Deque<Long> samples = HISTORY.computeIfAbsent(pattern, key -> new ArrayDeque<>());
+        synchronized (samples) {
+            samples.addLast(bytes);
+            while (samples.size() > maxSamples) samples.removeFirst();
+        }
+        modified = true;
+    }
+
+    /**
+     * Retorna el tamaño promedio de las solicitudes de un patrón.
+     *
+     * @param pattern el patrón de la lista de bloqueo.
+     * @return el promedio en bytes, o 0 si el patrón no se ha medido.
+     */
+    public static long estimate(String pattern) {
+        load();
+        Deque<Long> samples = HISTORY.get(pattern);
+        if (samples == null) return 0L;
+        synchronized (samples) {
+            return Math.round(samples.stream().mapToLong(Long::longValue).average().orElse(0));
+        }
+    }
+
+    /**
+     * Guarda el historial en "networkSizes.history" si cambió desde la última vez.
+     */
+    public static synchronized void save() {
+        if (!modified) return;
+        Map<String, List<Long>> snapshot = new TreeMap<>();
+        HISTORY.forEach((key, samples) -> {
+            synchronized (samples) {
+                snapshot.put(key, List.copyOf(samples));
+            }
+        });
+        try {
+            Path path = Paths.get(configuration().history());
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            // Se escribe en un archivo temporal y se reemplaza, para no dejar el historial a medio escribir
+            Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            MAPPER.writeValue(temporary.toFile(), snapshot);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            modified = false;
+            Log.info(LogInfo.LOG_NETWORK_SIZES_SAVED + path.toAbsolutePath());
+        } catch (IOException e) {
+            Log.warn(LogInfo.LOG_NETWORK_SIZES_ERROR + e.getMessage());
+        }
+    }
+
+    /**
+     * Lee el historial la primera vez que se consulta.
+     */
+    private static void load() {
+        if (loaded) return;
+        synchronized (BlockedRequestSizes.class) {
+            if (loaded) return;
+            String file = configuration().history();
+            Path path = Paths.get(file);
+            try {
+                if (!file.isBlank() && Files.isRegularFile(path)) {
+                    MAPPER.readValue(path.toFile(), HISTORY_TYPE).forEach(
+                            (key, samples) -> HISTORY.put(key, new ArrayDeque<>(samples)));
+                }
+            } catch (IOException e) {
+                Log.warn(LogInfo.LOG_NETWORK_SIZES_ERROR + e.getMessage());
+            }
+            loaded = true;
+        }
+    }
+}
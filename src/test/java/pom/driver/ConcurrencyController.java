@@ -0,0 +1,317 @@
+package pom.driver;
+
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.general_repository.config.WebDriverConfiguration;
+import utils.Log;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Limita cuántas sesiones de navegador pueden estar activas a la vez según la capacidad real del equipo.
+ *
+ * <p>
+ * "threadCount" define cuántas pruebas ejecuta TestNG en paralelo, pero no cuántos navegadores soporta el
+ * equipo en ese momento. Antes de crear su sesión, cada prueba solicita un cupo con {@link #acquire()} y lo
+ * devuelve con {@link #release()}; si no hay cupo, la prueba espera en lugar de sobrecargar el equipo.
+ * </p>
+ *
+ * <p>
+ * El límite inicial se calcula con los núcleos, la memoria libre y el espacio libre de {@code /dev/shm} (la
+ * memoria compartida que usa Chrome). Durante la ejecución se muestrean esos valores, el uso de CPU y la
+ * duración de los pasos de Allure en relación con su duración habitual, y el límite se ajusta con incremento
+ * aditivo y reducción multiplicativa: sube de a uno mientras haya pruebas esperando y el equipo tenga holgura,
+ * y baja a un 70% ante cualquier señal de sobrecarga. El límite nunca es menor que "concurrency.minSessions" ni
+ * mayor que "threadCount".
+ * </p>
+ */
+public final class ConcurrencyController {
+
+    private static final Path SHM = Paths.get("/dev/shm");
+    private static final Path MEMINFO = Paths.get("/proc/meminfo");
+    private static final String MEM_AVAILABLE = "MemAvailable:";
+    private static final long MEGABYTE = 1024L * 1024L;
+    private static final double DECREASE_FACTOR = 0.7;
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    /**
+     * Pasos más cortos que este valor no se consideran, ya que su duración varía demasiado.
+     */
+    private static final long MIN_STEP_MILLIS = 200L;
+
+    /**
+     * Muestras que se omiten después de una reducción, para que el equipo refleje el nuevo límite.
+     */
+    private static final int COOLDOWN_SAMPLES = 3;
+
+    /**
+     * Tiempo máximo de espera de un cupo cuando no se indica "concurrency.admissionTimeoutSeconds" ni
+     * "testBudgetSeconds".
+     */
+    private static final Duration DEFAULT_ADMISSION_TIME_OUT = Duration.ofMinutes(10);
+
+    private static volatile ConcurrencyController shared;
+
+    private final WebDriverConfiguration.Concurrency configuration;
+    private final int min;
+    private final int max;
+    private final Duration admissionTimeout;
+    private final ScheduledExecutorService sampler;
+
+    /**
+     * Duración mínima observada por nombre de paso, utilizada como referencia de su duración habitual.
+     */
+    private final Map<String, Long> stepBaselines = new ConcurrentHashMap<>();
+
+    private int limit;
+    private int active;
+    private int waiting;
+    private int cooldown;
+    private int peakLimit;
+    private double latencyRatio = 1.0;
+
+    private ConcurrencyController(WebDriverConfiguration configuration) {
+        this.configuration = configuration.concurrency();
+        this.max = Math.max(1, configuration.threadCount());
+        this.min = Math.min(max, Math.max(1, this.configuration.minSessions()));
+        this.admissionTimeout = admissionTimeout(configuration);
+
+        HostSample host = HostSample.take();
+        long byMemory = host.freeMemoryMb() < 0 ? Long.MAX_VALUE
+                : host.freeMemoryMb() / Math.max(1, this.configuration.memoryPerSessionMb());
+        long byShm = host.freeShmMb() < 0 ? Long.MAX_VALUE
+                : host.freeShmMb() / Math.max(1, this.configuration.shmPerSessionMb());
+        long initial = Math.min(Runtime.getRuntime().availableProcessors(), Math.min(byMemory, byShm));
+        this.limit = (int) Math.max(min, Math.min(max, initial));
+        this.peakLimit = limit;
+        Log.info(LogInfo.LOG_CONCURRENCY_INITIAL + limit + " (" + host + ")");
+
+        this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "concurrency-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, this.configuration.sampleSeconds());
+        sampler.scheduleAtFixedRate(this::sample, period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Calcula el tiempo máximo de espera de un cupo: "concurrency.admissionTimeoutSeconds" si es mayor que 0; en
+     * caso contrario, el plazo de una prueba ("testBudgetSeconds"), ya que una prueba que espera más que su propio
+     * plazo no alcanzaría a ejecutarse.
+     */
+    private static Duration admissionTimeout(WebDriverConfiguration configuration) {
+        if (configuration.concurrency().admissionTimeoutSeconds() > 0) {
+            return Duration.ofSeconds(configuration.concurrency().admissionTimeoutSeconds());
+        }
+        if (configuration.testBudgetSeconds() > 0) {
+            return Duration.ofSeconds(configuration.testBudgetSeconds());
+        }
+        return DEFAULT_ADMISSION_TIME_OUT;
+    }
+
+    /**
+     * Retorna el controlador de la ejecución, creándolo con los valores de "concurrency" la primera vez.
+     *
+     * @return la instancia compartida.
+     */
+    public static synchronized ConcurrencyController shared() {
+        if (shared == null) {
+            shared = new ConcurrencyController(ConfigurationSnapshot.current().webDriverConfiguration());
+        }
+        return shared;
+    }
+
+    /**
+     * Indica si las pruebas deben solicitar un cupo antes de crear su sesión.
+     *
+     * @return el valor de "concurrency.enabled" en config.json.
+     */
+    public static boolean enabled() {
+        return ConfigurationSnapshot.current().webDriverConfiguration().concurrency().enabled();
+    }
+
+    /**
+     * Detiene el muestreo e informa el límite máximo alcanzado; la próxima suite crea un controlador nuevo.
+     */
+    public static synchronized void shutdown() {
+        if (shared == null) return;
+        shared.sampler.shutdownNow();
+        Log.info(LogInfo.LOG_CONCURRENCY_SUMMARY + shared.peakLimit + ", límite final: " + shared.limit);
+        shared = null;
+    }
+
+    /**
+     * Registra la duración de un paso de Allure para detectar si el equipo se está volviendo lento. Si el
+     * controlador no se ha creado, no hace nada.
+     *
+     * @param step   nombre del paso.
+     * @param millis duración del paso.
+     */
+    public static void recordStep(String step, long millis) {
+        ConcurrencyController controller = shared;
+        if (controller == null || step == null || millis < MIN_STEP_MILLIS) return;
+
+        long baseline = controller.stepBaselines.merge(step, millis, Math::min);
+        synchronized (controller) {
+            controller.latencyRatio += LATENCY_SMOOTHING * ((double) millis / baseline - controller.latencyRatio);
+        }
+    }
+
+    /**
+     * Espera un cupo para iniciar una sesión.
+     *
+     * @throws IllegalStateException si no se obtiene un cupo en el tiempo máximo de espera o si el hilo es
+     *                               interrumpido.
+     */
+    public synchronized void acquire() {
+        long start = System.nanoTime();
+        long deadline = start + admissionTimeout.toNanos();
+        waiting++;
+        try {
+            while (active >= limit) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IllegalStateException(LogInfo.LOG_CONCURRENCY_TIME_OUT + limit);
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(LogInfo.LOG_CONCURRENCY_TIME_OUT + limit, e);
+        } finally {
+            waiting--;
+        }
+        active++;
+        Log.info(LogInfo.LOG_CONCURRENCY_ADMITTED + active + "/" + limit + " (espera: "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms)");
+    }
+
+    /**
+     * Devuelve un cupo obtenido con {@link #acquire()}.
+     */
+    public synchronized void release() {
+        if (active > 0) active--;
+        notifyAll();
+    }
+
+    /**
+     * Retorna el límite vigente de sesiones activas.
+     *
+     * @return el límite.
+     */
+    public synchronized int limit() {
+        return limit;
+    }
+
+    /**
+     * Muestrea el equipo y ajusta el límite.
+     */
+    private void sample() {
+        HostSample host = HostSample.take();
+        synchronized (this) {
+            String pressure = pressure(host);
+            int previous = limit;
+
+            if (cooldown > 0) {
+                cooldown--;
+            } else if (pressure != null) {
+                limit = Math.max(min, (int) (limit * DECREASE_FACTOR));
+                cooldown = COOLDOWN_SAMPLES;
+                latencyRatio = 1.0;
+            } else if (waiting > 0 && active >= limit) {
+                limit = Math.min(max, limit + 1);
+            }
+
+            if (limit != previous) {
+                peakLimit = Math.max(peakLimit, limit);
+                Log.info(LogInfo.LOG_CONCURRENCY_LIMIT + previous + " -> " + limit + " ("
+                        + (pressure != null ? pressure : host) + ")");
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Retorna el motivo de sobrecarga del equipo, o null si tiene holgura para una sesión más.
+     */
+    private String pressure(HostSample host) {
+        if (host.cpuPercent() >= configuration.cpuHighPercent()) return "CPU " + host.cpuPercent() + "%";
+        if (host.freeMemoryMb() >= 0 && host.freeMemoryMb() < configuration.memoryPerSessionMb()) {
+            return "memoria libre " + host.freeMemoryMb() + " MB";
+        }
+        if (host.freeShmMb() >= 0 && host.freeShmMb() < configuration.shmPerSessionMb()) {
+            return "/dev/shm libre " + host.freeShmMb() + " MB";
+        }
+        if (latencyRatio > configuration.latencyFactor()) {
+            return "pasos " + String.format("%.1f", latencyRatio) + " veces más lentos";
+        }
+        return null;
+    }
+
+    /**
+     * Estado del equipo en un instante.
+     *
+     * @param cpuPercent   uso de CPU del sistema, o -1 si no está disponible.
+     * @param freeMemoryMb memoria física libre, o -1 si no está disponible.
+     * @param freeShmMb    espacio libre de {@code /dev/shm}, o -1 si no existe.
+     */
+    record HostSample(int cpuPercent, long freeMemoryMb, long freeShmMb) {
+
+        static HostSample take() {
+            int cpu = -1;
+            // El heap de la JVM no dice nada de la memoria del equipo, por lo que sin el MXBean se desconoce
+            long freeMemory = -1;
+            if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+                double load = os.getCpuLoad();
+                cpu = load < 0 ? -1 : (int) Math.round(load * 100);
+                freeMemory = os.getFreeMemorySize() / MEGABYTE;
+            }
+            freeMemory = availableMemoryMb(freeMemory);
+
+            long freeShm = -1;
+            if (Files.isDirectory(SHM)) {
+                try {
+                    freeShm = Files.getFileStore(SHM).getUsableSpace() / MEGABYTE;
+                } catch (IOException e) {
+                    freeShm = -1;
+                }
+            }
+            return new HostSample(cpu, freeMemory, freeShm);
+        }
+
+        /**
+         * En Linux la memoria libre no incluye la caché de archivos, que el sistema libera cuando la necesita;
+         * por eso se usa "MemAvailable" de /proc/meminfo si existe.
+         */
+        private static long availableMemoryMb(long fallback) {
+            if (!Files.isReadable(MEMINFO)) return fallback;
+            try (Stream<String> lines = Files.lines(MEMINFO)) {
+                return lines.filter(line -> line.startsWith(MEM_AVAILABLE))
+                        .map(line -> line.substring(MEM_AVAILABLE.length()).replace("kB", "").trim())
+                        .mapToLong(kilobytes -> Long.parseLong(kilobytes) / 1024L)
+                        .findFirst()
+                        .orElse(fallback);
+            } catch (IOException | NumberFormatException e) {
+                return fallback;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "CPU " + cpuPercent + "%, memoria libre " + freeMemoryMb + " MB, /dev/shm libre "
+                    + freeShmMb + " MB";
+        }
+    }
+}
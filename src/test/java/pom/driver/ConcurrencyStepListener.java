@@ -0,0 +1,22 @@
+package pom.driver;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+
+/**
+ * Informa a {@link ConcurrencyController} la duración de cada paso del reporte de Allure, para que reduzca el
+ * límite de sesiones activas si los pasos se vuelven más lentos de lo habitual.
+ *
+ * <p>
+ * Se registra mediante META-INF/services/io.qameta.allure.listener.StepLifecycleListener.
+ * </p>
+ */
+public class ConcurrencyStepListener implements StepLifecycleListener {
+
+    @Override
+    public void beforeStepStop(StepResult result) {
+        if (result.getStart() != null) {
+            ConcurrencyController.recordStep(result.getName(), System.currentTimeMillis() - result.getStart());
+        }
+    }
+}
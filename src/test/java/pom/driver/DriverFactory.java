@@ -0,0 +1,246 @@
+package pom.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import pom.Base;
+import pom.general_repository.BrowserConfiguration;
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.general_repository.config.WebDriverConfiguration;
+import utils.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Inicia sesiones de WebDriver en segundo plano.
+ *
+ * <p>
+ * Crear un navegador toma varios segundos. En lugar de que cada prueba lo cree y espere en su propio hilo,
+ * las sesiones se inician como {@link CompletableFuture} en un grupo de hilos dedicado, todas a la vez, y la
+ * prueba espera su sesión recién cuando la necesita (ver {@link Base#getDriver()}).
+ * </p>
+ *
+ * <p>
+ * Al inicio de la suite, {@link DriverStartupListener} llama a {@link #prestart(String, int)} con la cantidad
+ * de {@code <test>} de cada navegador, de modo que el arranque de los navegadores se superpone con la
+ * inicialización de TestNG. Luego, cada prueba toma una de esas sesiones con {@link #start(String)}.
+ * </p>
+ */
+public final class DriverFactory {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /**
+     * Hilos que crean los navegadores; son daemon para no impedir que la JVM finalice.
+     */
+    static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-start-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Sesiones iniciadas al comienzo de la suite que aún no han sido tomadas por ninguna prueba.
+     */
+    private static final Map<String, Queue<CompletableFuture<WebDriver>>> PRESTARTED = new ConcurrentHashMap<>();
+
+    /**
+     * Tiempos de inicio de las sesiones, en milisegundos, desde la última llamada a {@link #startups()}.
+     */
+    private static LongSummaryStatistics startups = new LongSummaryStatistics();
+
+    private DriverFactory() {
+    }
+
+    /**
+     * Inicia un navegador en segundo plano.
+     *
+     * @param browserName nombre del navegador, utilizado en el log.
+     * @param creator     acción que crea el driver.
+     * @return la sesión en proceso de inicio.
+     */
+    public static CompletableFuture<WebDriver> launch(String browserName, Supplier<WebDriver> creator) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            WebDriver driver = creator.get();
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Log.info(LogInfo.LOG_DRIVER_FACTORY_STARTED + browserName + " en " + millis + " ms");
+            synchronized (DriverFactory.class) {
+                startups.accept(millis);
+            }
+            return driver;
+        }, EXECUTOR);
+    }
+
+    /**
+     * Retorna los tiempos de inicio de las sesiones creadas desde la llamada anterior y comienza un nuevo
+     * registro.
+     *
+     * @return la cantidad, el promedio y el máximo de los tiempos de inicio, en milisegundos.
+     */
+    static synchronized LongSummaryStatistics startups() {
+        LongSummaryStatistics current = startups;
+        startups = new LongSummaryStatistics();
+        return current;
+    }
+
+    /**
+     * Inicia en segundo plano las sesiones que necesitará la suite para el navegador indicado.
+     *
+     * @param browserType tipo de navegador ("Chrome", "Edge" o "Firefox").
+     * @param sessions    cantidad de sesiones a iniciar.
+     */
+    public static void prestart(String browserType, int sessions) {
+        Queue<CompletableFuture<WebDriver>> queue =
+                PRESTARTED.computeIfAbsent(browserType, type -> new ConcurrentLinkedQueue<>());
+        for (int i = 0; i < sessions; i++) {
+            queue.offer(create(browserType));
+        }
+        Log.info(LogInfo.LOG_DRIVER_FACTORY_PRESTART + sessions + " " + browserType);
+    }
+
+    /**
+     * Retorna una sesión del navegador indicado sin esperar a que termine de iniciarse. Se entrega primero una
+     * de las sesiones iniciadas con {@link #prestart(String, int)}; si no quedan, se inicia una nueva.
+     *
+     * @param browserType tipo de navegador ("Chrome", "Edge" o "Firefox").
+     * @return la sesión en proceso de inicio.
+     */
+    public static CompletableFuture<WebDriver> start(String browserType) {
+        Queue<CompletableFuture<WebDriver>> queue = PRESTARTED.get(browserType);
+        CompletableFuture<WebDriver> prestarted = queue == null ? null : queue.poll();
+        return prestarted != null ? prestarted : create(browserType);
+    }
+
+    /**
+     * Inicia una sesión nueva con la configuración personalizada de cada navegador, sin esperar a que termine.
+     * "ChromeHeadlessShell" inicia Chrome con el binario chrome-headless-shell de "headlessShellBinary".
+     * Si "grid.enabled" está activo, la sesión se crea en el Selenium Grid configurado; en caso contrario, si
+     * "profileTemplate.enabled" está activo, Chrome y Edge se inician con una copia de su plantilla de perfil
+     * (ver {@link ProfileTemplate}).
+     *
+     * @param browserType tipo de navegador ("Chrome", "Edge" o "Firefox").
+     * @return la sesión en proceso de inicio.
+     */
+    public static CompletableFuture<WebDriver> create(String browserType) {
+        return create(browserType, ProfileTemplate.enabled());
+    }
+
+    /**
+     * Inicia una sesión nueva, indicando si Chrome y Edge deben usar una plantilla de perfil.
+     *
+     * @param browserType     tipo de navegador ("Chrome", "Edge" o "Firefox").
+     * @param profileTemplate si es true, la sesión se inicia con una copia de la plantilla de perfil.
+     * @return la sesión en proceso de inicio.
+     */
+    static CompletableFuture<WebDriver> create(String browserType, boolean profileTemplate) {
+        WebDriverConfiguration configuration = ConfigurationSnapshot.current().webDriverConfiguration();
+        Base base = new Base((WebDriver) null);
+        Capabilities options;
+        try {
+            options = switch (browserType) {
+                case "Chrome" -> base.chromeCustomConfiguration(configuration.downloads());
+                case "ChromeHeadlessShell" -> base.chromeHeadlessShellConfiguration(configuration.downloads());
+                case "Edge" -> base.edgeCustomConfiguration();
+                case "Firefox" -> base.firefoxCustomConfiguration(
+                        BrowserConfiguration.BC_PREF_DOWNLOAD_DIRECTORY_FOLDER_LIST_KEY_FIREFOX,
+                        BrowserConfiguration.BC_PREF_DOWNLOAD_DIRECTORY_FOLDER_LIST_VALUE_FIREFOX,
+                        BrowserConfiguration.BC_PREF_DOWNLOAD_DIRECTORY_FIREFOX, configuration.downloads());
+                default -> throw new IllegalArgumentException(
+                        LogInfo.LOG_DRIVER_FACTORY_UNKNOWN_BROWSER + browserType);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (configuration.grid().enabled()) {
+            base.remoteConnectionOptions(options);
+            return base.getDriverAsync();
+        }
+        if (profileTemplate && options instanceof ChromiumOptions<?> chromiumOptions) {
+            ProfileTemplate template = ProfileTemplate.of(browserType, chromiumOptions);
+            return template.newProfile(chromiumOptions).thenCompose(profile -> {
+                if (profile == null) return connect(base, options);
+                ProfileTemplate.use(chromiumOptions, profile);
+                return connect(base, options).whenComplete((driver, error) -> {
+                    if (driver != null) {
+                        ProfileTemplate.attach(driver, profile);
+                        template.verify(driver);
+                    } else {
+                        ProfileTemplate.delete(profile);
+                    }
+                });
+            });
+        }
+        return connect(base, options);
+    }
+
+    /**
+     * Inicia localmente la sesión del navegador que corresponde a las opciones indicadas.
+     */
+    private static CompletableFuture<WebDriver> connect(Base base, Capabilities options) {
+        if (options instanceof ChromeOptions chromeOptions) {
+            base.chromeDriverConnectionOptions(chromeOptions);
+        } else if (options instanceof EdgeOptions edgeOptions) {
+            base.edgeConnectionOptions(edgeOptions);
+        } else {
+            base.firefoxDriverConnectionOptions((FirefoxOptions) options);
+        }
+        return base.getDriverAsync();
+    }
+
+    /**
+     * Cierra las sesiones iniciadas al comienzo de la suite que ninguna prueba llegó a utilizar.
+     */
+    public static void shutdown() {
+        for (Queue<CompletableFuture<WebDriver>> queue : PRESTARTED.values()) {
+            CompletableFuture<WebDriver> session;
+            while ((session = queue.poll()) != null) {
+                quit(session);
+            }
+        }
+        PRESTARTED.clear();
+    }
+
+    /**
+     * Cierra la sesión cuando termine de iniciarse; si su inicio falló, no hace nada.
+     *
+     * @param session la sesión a cerrar.
+     */
+    static void quit(CompletableFuture<WebDriver> session) {
+        WebDriver driver = session.handle((created, error) -> created).join();
+        if (driver == null) return;
+        // quit() borra el identificador de la sesión, que es la clave de los registros que se descartan
+        SessionId id = driver instanceof RemoteWebDriver remote ? remote.getSessionId() : null;
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            Log.warn(e.getMessage());
+        } finally {
+            ProfileTemplate.release(id);
+            SessionHealth.forget(id);
+            NetworkBlocker.forget(id);
+            NetworkIdle.forget(id);
+            GridCapacity.forget(id);
+        }
+    }
+}
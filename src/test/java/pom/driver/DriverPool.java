@@ -0,0 +1,275 @@
+package pom.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.general_repository.config.WebDriverConfiguration;
+import utils.Log;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool acotado de sesiones de WebDriver reutilizables entre las pruebas de una suite.
+ *
+ * <p>
+ * El arranque en frío del navegador es la parte más lenta de los flujos cortos. El pool inicia las sesiones al
+ * comienzo de la suite ({@link #warmUp(int)}) y las presta a cada {@code <test>}: la prueba la solicita con
+ * {@link #borrow()} en lugar de crear un navegador y la devuelve con {@link #giveBack(CompletableFuture)} en
+ * lugar de cerrarlo. Entre un préstamo y otro la sesión se limpia: pestañas, cookies y almacenamiento local y de
+ * sesión y, en Chrome y Edge, también IndexedDB, Cache Storage, service workers, la caché HTTP y los permisos
+ * concedidos.
+ * </p>
+ *
+ * <p>
+ * Al devolverse, también se evalúa su salud ({@link SessionHealth}): si atendió "sessionPool.recycle.maxTests"
+ * pruebas, si la memoria del navegador supera "maxRssMb" o si sus comandos tardan "latencyFactor" veces más que
+ * al inicio, se cierra y se reemplaza por una sesión nueva. El motivo de cada reemplazo queda en el log.
+ * </p>
+ *
+ * <p>
+ * Nunca existen más de {@code size} sesiones abiertas por navegador; si todas están prestadas, la prueba espera
+ * hasta que se devuelva alguna. El tiempo de espera de cada préstamo queda registrado y el resumen se informa en
+ * {@link #shutdownAll()}.
+ * </p>
+ *
+ * <p>Ejemplo de uso:</p>
+ * <pre>
+ * {@code
+ * CompletableFuture<WebDriver> session = DriverPool.of("Chrome").borrow();
+ * try {
+ *     Page page = new Page(session);
+ *     // ... flujo de prueba ...
+ * } finally {
+ *     DriverPool.of("Chrome").giveBack(session);
+ * }
+ * }
+ * </pre>
+ */
+public final class DriverPool {
+
+    private static final String BLANK_PAGE = "about:blank";
+    private static final String CLEAR_STORAGE_JS =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    /**
+     * Pools creados, indexados por tipo de navegador ("Chrome", "Edge" o "Firefox").
+     */
+    private static final Map<String, DriverPool> POOLS = new ConcurrentHashMap<>();
+
+    private final String browserType;
+    private final Semaphore capacity;
+    private final BlockingDeque<CompletableFuture<WebDriver>> idle = new LinkedBlockingDeque<>();
+    private final Duration borrowTimeout;
+    private final WebDriverConfiguration.SessionPool.Recycle recycle;
+
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * Sesiones recicladas por motivo.
+     */
+    private final Map<String, Integer> recycled = new ConcurrentHashMap<>();
+
+    private DriverPool(String browserType, WebDriverConfiguration.SessionPool configuration) {
+        this.browserType = browserType;
+        this.capacity = new Semaphore(Math.max(1, configuration.size()), true);
+        this.borrowTimeout = Duration.ofSeconds(configuration.borrowTimeoutSeconds());
+        this.recycle = configuration.recycle();
+    }
+
+    /**
+     * Retorna el pool del navegador indicado, creándolo con los valores de "sessionPool" la primera vez.
+     *
+     * @param browserType tipo de navegador ("Chrome", "Edge" o "Firefox").
+     * @return el pool compartido para dicho navegador.
+     */
+    public static DriverPool of(String browserType) {
+        return POOLS.computeIfAbsent(browserType, type ->
+                new DriverPool(type, ConfigurationSnapshot.current().webDriverConfiguration().sessionPool()));
+    }
+
+    /**
+     * Indica si las pruebas deben obtener sus sesiones desde el pool.
+     *
+     * @return el valor de "sessionPool.enabled" en config.json.
+     */
+    public static boolean enabled() {
+        return ConfigurationSnapshot.current().webDriverConfiguration().sessionPool().enabled();
+    }
+
+    /**
+     * Inicia en segundo plano las sesiones indicadas y las deja disponibles para su préstamo, sin esperar a que
+     * terminen de iniciarse. Nunca se inician más sesiones que la capacidad del pool.
+     *
+     * @param sessions cantidad de sesiones a iniciar.
+     */
+    public void warmUp(int sessions) {
+        int count = Math.min(sessions, capacity.availablePermits() - idle.size());
+        for (int i = 0; i < count; i++) {
+            idle.offerLast(DriverFactory.create(browserType));
+        }
+        Log.info(LogInfo.LOG_DRIVER_POOL_WARM_UP + Math.max(count, 0) + " " + browserType);
+    }
+
+    /**
+     * Presta una sesión del pool, esperando si todas están en uso. Si no hay sesiones libres pero aún queda
+     * capacidad, se inicia una nueva.
+     * <p>
+     * La sesión se entrega sin esperar a que termine de iniciarse; la prueba la espera al usarla por primera
+     * vez. Si una sesión precalentada no logró iniciarse, se reemplaza por una nueva.
+     * </p>
+     *
+     * @return la sesión prestada; debe devolverse con {@link #giveBack(CompletableFuture)}.
+     * @throws IllegalStateException si no se obtiene una sesión dentro del tiempo configurado o si el hilo es
+     *                               interrumpido.
+     */
+    public CompletableFuture<WebDriver> borrow() {
+        long start = System.nanoTime();
+        try {
+            if (!capacity.tryAcquire(borrowTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException(LogInfo.LOG_DRIVER_POOL_TIME_OUT + browserType);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(LogInfo.LOG_DRIVER_POOL_TIME_OUT + browserType, e);
+        }
+
+        long waited = System.nanoTime() - start;
+        borrows.increment();
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        Log.info(LogInfo.LOG_DRIVER_POOL_BORROWED + browserType + " (espera: "
+                + TimeUnit.NANOSECONDS.toMillis(waited) + " ms)");
+
+        CompletableFuture<WebDriver> session = idle.pollFirst();
+        if (session == null) {
+            session = DriverFactory.create(browserType);
+        } else {
+            session = session.exceptionallyCompose(error -> {
+                Log.warn(LogInfo.LOG_DRIVER_POOL_WARM_UP_ERROR + error.getMessage());
+                return DriverFactory.create(browserType);
+            });
+        }
+
+        // Si la sesión no logra iniciarse, nunca será devuelta; se libera su lugar de inmediato
+        return session.whenComplete((driver, error) -> {
+            if (error != null) capacity.release();
+        });
+    }
+
+    /**
+     * Devuelve una sesión al pool después de limpiarla. Si la limpieza falla, la sesión se cierra y se libera
+     * su lugar para que el próximo préstamo cree una nueva.
+     *
+     * @param session la sesión obtenida con {@link #borrow()}.
+     */
+    public void giveBack(CompletableFuture<WebDriver> session) {
+        if (session == null) return;
+        WebDriver driver = session.handle((created, error) -> created).join();
+        // Si la sesión no se inició, su lugar ya fue liberado en borrow()
+        if (driver == null) return;
+        try {
+            reset(driver);
+            String reason = SessionHealth.check(driver, recycle);
+            if (reason != null) {
+                recycle(driver, reason);
+            } else {
+                idle.offerFirst(CompletableFuture.completedFuture(driver));
+                Log.info(LogInfo.LOG_DRIVER_POOL_RETURNED + browserType);
+            }
+        } catch (WebDriverException e) {
+            Log.warn(LogInfo.LOG_DRIVER_POOL_DISCARDED + e.getMessage());
+            DriverFactory.quit(CompletableFuture.completedFuture(driver));
+        } finally {
+            capacity.release();
+        }
+    }
+
+    /**
+     * Cierra una sesión que superó un umbral de "sessionPool.recycle" e inicia en segundo plano la sesión que la
+     * reemplaza, de modo que el próximo préstamo no espere un arranque en frío.
+     */
+    private void recycle(WebDriver driver, String reason) {
+        Log.info(LogInfo.LOG_DRIVER_POOL_RECYCLED + browserType + " - " + reason);
+        recycled.merge(reason.substring(0, reason.indexOf(':') < 0 ? reason.length() : reason.indexOf(':')),
+                1, Integer::sum);
+        DriverFactory.quit(CompletableFuture.completedFuture(driver));
+        idle.offerFirst(DriverFactory.create(browserType));
+    }
+
+    /**
+     * Cierra todas las sesiones libres de todos los pools e informa el tiempo de espera de los préstamos.
+     */
+    public static void shutdownAll() {
+        for (DriverPool pool : POOLS.values()) {
+            CompletableFuture<WebDriver> session;
+            while ((session = pool.idle.pollFirst()) != null) {
+                DriverFactory.quit(session);
+            }
+
+            long count = pool.borrows.sum();
+            long average = count == 0 ? 0 : pool.totalWaitNanos.sum() / count;
+            Log.info(LogInfo.LOG_DRIVER_POOL_SUMMARY + pool.browserType + " - préstamos: " + count
+                    + ", espera promedio: " + TimeUnit.NANOSECONDS.toMillis(average)
+                    + " ms, espera máxima: " + TimeUnit.NANOSECONDS.toMillis(pool.maxWaitNanos.get()) + " ms"
+                    + ", sesiones recicladas: " + pool.recycled);
+        }
+        POOLS.clear();
+    }
+
+    /**
+     * Deja la sesión como recién creada: una sola pestaña en blanco, sin cookies, almacenamiento, caché ni permisos.
+     */
+    private static void reset(WebDriver driver) {
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        for (int i = 1; i < handles.size(); i++) {
+            driver.switchTo().window(handles.get(i));
+            driver.close();
+        }
+        driver.switchTo().window(handles.get(0));
+
+        // El almacenamiento de sesión pertenece a la pestaña, por lo que se limpia antes de salir de la página
+        ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_JS);
+
+        if (driver instanceof HasCdp cdp) {
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            cdp.executeCdpCommand("Network.clearBrowserCache", Map.of());
+            cdp.executeCdpCommand("Browser.resetPermissions", Map.of());
+            String origin = origin(ConfigurationSnapshot.current().webDriverConfiguration().urlTest());
+            if (origin != null) {
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes",
+                        "local_storage,session_storage,indexeddb,cache_storage,service_workers"));
+            }
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+
+        driver.get(BLANK_PAGE);
+    }
+
+    private static String origin(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getScheme() == null || uri.getHost() == null) return null;
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
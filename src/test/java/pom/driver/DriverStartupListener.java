@@ -0,0 +1,85 @@
+package pom.driver;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlTest;
+import pom.general_repository.config.ConfigurationSnapshot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Inicia los navegadores que necesitará la suite apenas esta comienza y los cierra al finalizar.
+ *
+ * <p>
+ * Cuenta las sesiones que necesitará la suite (una por cada método incluido en cada {@code <test>}) según el
+ * parámetro {@code BrowserType}. Si el pool de sesiones está activo, precalienta {@link DriverPool} (hasta
+ * "sessionPool.warmUp" sesiones por navegador); en caso contrario, inicia esas sesiones con
+ * {@link DriverFactory#prestart(String, int)}. Las sesiones iniciadas de antemano no pasan por
+ * {@link ConcurrencyController#acquire()}, por lo que, si "concurrency" está activo, se inician como máximo tantas
+ * como el límite inicial de sesiones activas, repartidas entre los navegadores en orden; el resto se inicia al
+ * comenzar cada prueba, después de obtener su cupo.
+ * Todas las sesiones se inician a la vez y en segundo plano, con las reglas de bloqueo de red de la suite
+ * (parámetros {@code BlockedUrls}, {@code AllowedUrls} y {@code NetworkBlocking}, ver {@link NetworkBlocker}). Si "concurrency" está
+ * activo, también se calcula el límite inicial de sesiones activas ({@link ConcurrencyController}).
+ * </p>
+ */
+public class DriverStartupListener implements ISuiteListener {
+
+    private static final String BROWSER_TYPE_PARAMETER = "BrowserType";
+    private static final String BLOCKED_URLS_PARAMETER = "BlockedUrls";
+    private static final String ALLOWED_URLS_PARAMETER = "AllowedUrls";
+    private static final String NETWORK_BLOCKING_PARAMETER = "NetworkBlocking";
+
+    @Override
+    public void onStart(ISuite suite) {
+        // Las reglas deben estar definidas antes de crear las sesiones de la suite
+        NetworkBlocker.configure(NetworkBlocker.Rules.parse(
+                suite.getParameter(BLOCKED_URLS_PARAMETER), suite.getParameter(ALLOWED_URLS_PARAMETER),
+                suite.getParameter(NETWORK_BLOCKING_PARAMETER)));
+
+        // El límite inicial de sesiones activas se calcula antes de que comiencen las pruebas
+        int admitted = ConcurrencyController.enabled() ? ConcurrencyController.shared().limit() : Integer.MAX_VALUE;
+
+        Map<String, Integer> sessions = new LinkedHashMap<>();
+        for (XmlTest test : suite.getXmlSuite().getTests()) {
+            String browserType = test.getAllParameters().get(BROWSER_TYPE_PARAMETER);
+            if (browserType != null) {
+                sessions.merge(browserType, methods(test), Integer::sum);
+            }
+        }
+
+        int warmUp = ConfigurationSnapshot.current().webDriverConfiguration().sessionPool().warmUp();
+        for (Map.Entry<String, Integer> entry : sessions.entrySet()) {
+            if (DriverPool.enabled()) {
+                DriverPool.of(entry.getKey()).warmUp(Math.min(entry.getValue(), warmUp));
+            } else if (admitted > 0) {
+                int count = Math.min(entry.getValue(), admitted);
+                DriverFactory.prestart(entry.getKey(), count);
+                admitted -= count;
+            }
+        }
+    }
+
+    /**
+     * Cuenta las sesiones que necesita un {@code <test>}: una por cada método incluido, ya que cada método
+     * obtiene su propia sesión, o una si el {@code <test>} no restringe sus métodos.
+     */
+    private static int methods(XmlTest test) {
+        int methods = 0;
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            methods += Math.max(1, xmlClass.getIncludedMethods().size());
+        }
+        return Math.max(1, methods);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        DriverPool.shutdownAll();
+        DriverFactory.shutdown();
+        ConcurrencyController.shutdown();
+        NetworkBlocker.configure(NetworkBlocker.Rules.NONE);
+        BlockedRequestSizes.save();
+    }
+}
@@ -0,0 +1,235 @@
+package pom.driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import pom.general_repository.LogInfo;
+import utils.Log;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Controla cuántas sesiones se solicitan a un Selenium Grid según los espacios libres que informa.
+ *
+ * <p>
+ * Si se piden más sesiones que espacios libres, el Grid las deja en su cola y pueden expirar antes de
+ * iniciarse. Para evitarlo, antes de crear cada {@code RemoteWebDriver} se consulta {@code /status} y solo se
+ * continúa si hay un espacio libre para el navegador solicitado; en caso contrario la prueba espera localmente.
+ * La consulta y la reserva se hacen bajo el mismo bloqueo, para que dos pruebas no tomen el mismo espacio libre.
+ * </p>
+ *
+ * <p>
+ * El Grid puede tardar en informar como ocupado el espacio de una sesión recién creada, por lo que la reserva se
+ * mantiene y se descuenta de los espacios libres hasta que {@code /status} informa la sesión (se confirma con
+ * {@link #confirm(Reservation, RemoteWebDriver)}), hasta que la sesión se cierra ({@link #forget(SessionId)}) o
+ * hasta que su creación falla ({@link #release(Reservation)}).
+ * </p>
+ */
+public final class GridCapacity {
+
+    private static final Duration REQUEST_TIME_OUT = Duration.ofSeconds(10);
+    private static final long MIN_POLL_MILLIS = 250L;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Map<String, GridCapacity> GRIDS = new ConcurrentHashMap<>();
+
+    /**
+     * Reservas de las sesiones creadas, para liberarlas al cerrar la sesión.
+     */
+    private static final Map<SessionId, Reservation> SESSIONS = new ConcurrentHashMap<>();
+
+    private final URI status;
+    private final long maxPollMillis;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(REQUEST_TIME_OUT).build();
+
+    /**
+     * Espacios reservados cuyas sesiones aún no aparecen como ocupadas en el Grid; protegido por su monitor.
+     */
+    private final List<Reservation> reserved = new ArrayList<>();
+
+    /**
+     * Espacio reservado para una sesión del navegador indicado.
+     */
+    public final class Reservation {
+        private final String browserName;
+        private volatile String sessionId;
+
+        private Reservation(String browserName) {
+            this.browserName = browserName;
+        }
+
+        private GridCapacity owner() {
+            return GridCapacity.this;
+        }
+    }
+
+    /**
+     * Estado del Grid para un navegador: espacios libres y sesiones en curso.
+     */
+    private record Status(int free, Set<String> sessions) {
+    }
+
+    private GridCapacity(URI grid, long maxPollMillis) {
+        this.status = grid.resolve("/status");
+        this.maxPollMillis = Math.max(MIN_POLL_MILLIS, maxPollMillis);
+    }
+
+    /**
+     * Retorna el control de capacidad del Grid indicado.
+     *
+     * @param grid          URL del Grid (por ejemplo, http://localhost:4444).
+     * @param maxPollMillis intervalo máximo, en milisegundos, entre consultas mientras no haya espacios libres.
+     * @return la instancia compartida para dicho Grid.
+     */
+    public static GridCapacity of(URI grid, long maxPollMillis) {
+        return GRIDS.computeIfAbsent(grid.toString(), key -> new GridCapacity(grid, maxPollMillis));
+    }
+
+    /**
+     * Espera a que el Grid tenga un espacio libre para el navegador indicado y lo reserva.
+     * Una vez creada la sesión, la reserva se asocia a ella con {@link #confirm(Reservation, RemoteWebDriver)};
+     * si la creación falla, debe liberarse con {@link #release(Reservation)}.
+     *
+     * @param browserName nombre del navegador según WebDriver ("chrome", "MicrosoftEdge" o "firefox").
+     * @param timeout     tiempo máximo de espera.
+     * @return la reserva.
+     * @throws IllegalStateException si no se obtiene un espacio a tiempo o si el hilo es interrumpido.
+     */
+    public Reservation reserve(String browserName, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long poll = MIN_POLL_MILLIS;
+        boolean waitingLogged = false;
+
+        while (true) {
+            synchronized (reserved) {
+                Status current = status(browserName);
+                // Las sesiones que el Grid ya informa ocupan su espacio en el estado; su reserva se descarta
+                reserved.removeIf(reservation -> reservation.sessionId != null
+                        && current.sessions().contains(reservation.sessionId));
+                long pending = reserved.stream()
+                        .filter(reservation -> reservation.browserName.equalsIgnoreCase(browserName))
+                        .count();
+                if (current.free() - pending > 0) {
+                    Reservation reservation = new Reservation(browserName);
+                    reserved.add(reservation);
+                    return reservation;
+                }
+            }
+
+            if (!waitingLogged) {
+                Log.info(LogInfo.LOG_GRID_WAITING + browserName);
+                waitingLogged = true;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(LogInfo.LOG_GRID_TIME_OUT + browserName);
+            }
+            try {
+                Thread.sleep(poll);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(LogInfo.LOG_GRID_TIME_OUT + browserName, e);
+            }
+            poll = Math.min(poll * 2, maxPollMillis);
+        }
+    }
+
+    /**
+     * Asocia una reserva a la sesión creada con ella. La reserva se mantiene hasta que el Grid informe la sesión o
+     * hasta que la sesión se cierre.
+     *
+     * @param reservation la reserva obtenida con {@link #reserve(String, Duration)}.
+     * @param driver      la sesión creada.
+     */
+    public void confirm(Reservation reservation, RemoteWebDriver driver) {
+        reservation.sessionId = driver.getSessionId().toString();
+        SESSIONS.put(driver.getSessionId(), reservation);
+    }
+
+    /**
+     * Libera una reserva, por ejemplo si la creación de su sesión falló.
+     *
+     * @param reservation la reserva obtenida con {@link #reserve(String, Duration)}.
+     */
+    public void release(Reservation reservation) {
+        synchronized (reserved) {
+            reserved.remove(reservation);
+        }
+    }
+
+    /**
+     * Libera la reserva de una sesión cerrada; si la sesión no se creó en un Grid, no hace nada.
+     *
+     * @param session identificador de la sesión cerrada, obtenido antes de cerrarla.
+     */
+    public static void forget(SessionId session) {
+        if (session == null) return;
+        Reservation reservation = SESSIONS.remove(session);
+        if (reservation != null) {
+            reservation.owner().release(reservation);
+        }
+    }
+
+    /**
+     * Consulta al Grid la cantidad de espacios libres para el navegador indicado.
+     *
+     * @param browserName nombre del navegador según WebDriver.
+     * @return la cantidad de espacios libres, o 0 si el Grid no responde o no está listo.
+     */
+    public int freeSlots(String browserName) {
+        return status(browserName).free();
+    }
+
+    /**
+     * Consulta al Grid los espacios libres para el navegador indicado y los identificadores de las sesiones en
+     * curso; sin espacios libres ni sesiones si el Grid no responde o no está listo.
+     */
+    private Status status(String browserName) {
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(status).timeout(REQUEST_TIME_OUT).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            JsonNode value = MAPPER.readTree(response.body()).path("value");
+
+            int free = 0;
+            Set<String> sessions = new HashSet<>();
+            for (JsonNode node : value.path("nodes")) {
+                int busy = 0;
+                int matching = 0;
+                for (JsonNode slot : node.path("slots")) {
+                    JsonNode session = slot.path("session");
+                    boolean inUse = !session.isMissingNode() && !session.isNull();
+                    if (inUse) {
+                        busy++;
+                        sessions.add(session.path("sessionId").asText());
+                    }
+                    if (!inUse && browserName.equalsIgnoreCase(
+                            slot.path("stereotype").path("browserName").asText())) {
+                        matching++;
+                    }
+                }
+                if (!"UP".equalsIgnoreCase(node.path("availability").asText())) continue;
+                // Un nodo no acepta más sesiones que su máximo, aunque tenga más espacios declarados
+                int maxSessions = node.path("maxSessions").asInt(Integer.MAX_VALUE);
+                free += Math.max(0, Math.min(matching, maxSessions - busy));
+            }
+            return new Status(free, sessions);
+        } catch (IOException e) {
+            Log.warn(LogInfo.LOG_GRID_STATUS_ERROR + status + " - " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new Status(0, Set.of());
+    }
+}
@@ -0,0 +1,114 @@
+package pom.driver;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.TestNG;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import pom.general_repository.LogInfo;
+import utils.Log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la ejecución de los flujos con Chrome en modo {@code --headless=new} y con chrome-headless-shell.
+ *
+ * <p>
+ * Ejecuta la suite indicada una vez por modo, reemplazando el parámetro {@code BrowserType} de cada
+ * {@code <test>}, y en cada ejecución informa el tiempo de inicio de las sesiones (promedio y máximo), la memoria
+ * residente (RSS) de los navegadores y drivers, muestreada desde {@code /proc} como la suma de todos los procesos
+ * hijos de la JVM (pico y promedio), la duración total y el resultado de la suite. Requiere "headlessShellBinary"
+ * en config.json y que las suites hayan sido generadas con {@code TestNGXmlGenerator}. Uso:
+ * </p>
+ * <pre>
+ * mvn test-compile exec:java "-Dexec.mainClass=pom.driver.HeadlessShellBenchmark" "-Dexec.classpathScope=test" "-Dexec.args=testng.xml"
+ * </pre>
+ */
+public final class HeadlessShellBenchmark {
+
+    private static final String BROWSER_TYPE_PARAMETER = "BrowserType";
+    private static final List<String> MODES = List.of("Chrome", "ChromeHeadlessShell");
+    private static final long SAMPLE_MILLIS = 500L;
+
+    private HeadlessShellBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        String suite = args.length > 0 ? args[0] : "testng.xml";
+        List<String> results = new ArrayList<>();
+        for (String browserType : MODES) {
+            results.add(run(suite, browserType));
+        }
+        results.forEach(result -> Log.info(LogInfo.LOG_HEADLESS_BENCHMARK + result));
+        DriverFactory.shutdown();
+    }
+
+    /**
+     * Ejecuta la suite con el navegador indicado mientras se muestrea la memoria de los procesos hijos.
+     *
+     * @return el resumen de la ejecución.
+     */
+    private static String run(String suite, String browserType) {
+        LongSummaryStatistics rss = new LongSummaryStatistics();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "headless-benchmark-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(() -> {
+            long kilobytes = ProcessHandle.current().descendants()
+                    .mapToLong(process -> SessionHealth.rssKb(process.pid()))
+                    .sum();
+            if (kilobytes > 0) {
+                synchronized (rss) {
+                    rss.accept(kilobytes / 1024);
+                }
+            }
+        }, 0, SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+
+        TestNG testng = new TestNG();
+        testng.setTestSuites(List.of(suite));
+        testng.addListener(new IAlterSuiteListener() {
+            @Override
+            public void alter(List<XmlSuite> suites) {
+                suites.forEach(xmlSuite -> useBrowser(xmlSuite, browserType));
+            }
+        });
+        DriverFactory.startups();
+        long start = System.nanoTime();
+        try {
+            testng.run();
+        } finally {
+            sampler.shutdownNow();
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LongSummaryStatistics startups = DriverFactory.startups();
+
+        synchronized (rss) {
+            return browserType + " - sesiones: " + startups.getCount()
+                    + ", inicio promedio: " + (long) startups.getAverage() + " ms, inicio máximo: "
+                    + startups.getMax() + " ms, RSS pico: " + rss.getMax() + " MB, RSS promedio: "
+                    + (long) rss.getAverage() + " MB, duración: " + millis + " ms, resultado: "
+                    + (testng.hasFailure() ? "con fallas" : "exitoso");
+        }
+    }
+
+    /**
+     * Asigna el navegador indicado a cada {@code <test>} de la suite y de sus suites hijas; TestNG lo aplica al
+     * leer la suite, antes de ejecutarla.
+     */
+    private static void useBrowser(XmlSuite suite, String browserType) {
+        for (XmlTest test : suite.getTests()) {
+            Map<String, String> parameters = new HashMap<>(test.getLocalParameters());
+            parameters.put(BROWSER_TYPE_PARAMETER, browserType);
+            test.setParameters(parameters);
+        }
+        suite.getChildSuites().forEach(child -> useBrowser(child, browserType));
+    }
+}
@@ -0,0 +1,256 @@
+package pom.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import pom.general_repository.LogInfo;
+import utils.Log;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Bloquea, mediante Chrome DevTools Protocol, las solicitudes de red que ninguna validación necesita
+ * (analítica, fuentes, imágenes pesadas, scripts de terceros).
+ *
+ * <p>
+ * Las reglas se definen por suite en config.json ("tests.&lt;suite&gt;.networkBlocking") y llegan como
+ * parámetros de la suite generada por {@code utils.TestNGXmlGenerator}. Al crear cada sesión de Chrome o Edge
+ * se habilita {@code Fetch} solo para las URL de la lista de bloqueo, de modo que el resto de las solicitudes no
+ * se interceptan. Cada solicitud detenida se rechaza, salvo que coincida con la lista de permitidas. Los
+ * patrones usan comodines: {@code *} (cero o más caracteres) y {@code ?} (un carácter).
+ * </p>
+ *
+ * <p>
+ * Por cada sesión se cuentan las solicitudes bloqueadas y los bytes que se evitaron descargar, estimados con el
+ * tamaño promedio que {@link BlockedRequestSizes} midió para el patrón de cada solicitud. Ambos contadores aumentan
+ * antes de rechazar la solicitud, mientras el navegador la mantiene detenida, de modo que
+ * {@link NetworkBlockingStepListener} los informa en el paso que la originó. Si la suite tiene el bloqueo
+ * desactivado, las solicitudes que coinciden con la lista de bloqueo no se rechazan y su tamaño se registra en
+ * {@link BlockedRequestSizes}. Las estadísticas de una sesión se descartan con {@link #forget(SessionId)} al
+ * cerrarla.
+ * </p>
+ */
+public final class NetworkBlocker {
+
+    /**
+     * Reglas de bloqueo de la suite en ejecución.
+     *
+     * @param blocklist patrones de las URL que se bloquean.
+     * @param allowlist patrones de las URL que no se bloquean aunque coincidan con la lista de bloqueo.
+     * @param blocking  false si las solicitudes de la lista de bloqueo solo se miden, sin rechazarlas.
+     */
+    public record Rules(List<String> blocklist, List<String> allowlist, boolean blocking) {
+
+        public static final Rules NONE = new Rules(List.of(), List.of(), false);
+
+        /**
+         * Crea las reglas a partir de listas de patrones separados por coma.
+         *
+         * @param blocklist patrones a bloquear, o null.
+         * @param allowlist patrones permitidos, o null.
+         * @param blocking  "false" si las solicitudes solo se miden; cualquier otro valor, o null, las bloquea.
+         * @return las reglas.
+         */
+        public static Rules parse(String blocklist, String allowlist, String blocking) {
+            return new Rules(split(blocklist), split(allowlist), !"false".equalsIgnoreCase(blocking));
+        }
+
+        boolean active() {
+            return !blocklist.isEmpty();
+        }
+
+        private static List<String> split(String patterns) {
+            if (patterns == null || patterns.isBlank()) return List.of();
+            return Arrays.stream(patterns.split(",")).map(String::trim).filter(p -> !p.isEmpty()).toList();
+        }
+    }
+
+    /**
+     * Solicitudes bloqueadas en una sesión y bytes que se evitaron descargar.
+     */
+    public static final class Stats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        public long requests() {
+            return requests.sum();
+        }
+
+        public long bytes() {
+            return bytes.sum();
+        }
+    }
+
+    private static final Map<SessionId, Stats> STATS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    private static volatile Rules rules = Rules.NONE;
+
+    private NetworkBlocker() {
+    }
+
+    /**
+     * Define las reglas que se aplicarán a las sesiones creadas desde ahora.
+     *
+     * @param suiteRules reglas de la suite en ejecución.
+     */
+    public static void configure(Rules suiteRules) {
+        rules = suiteRules;
+        if (suiteRules.active()) {
+            Log.info((suiteRules.blocking() ? LogInfo.LOG_NETWORK_BLOCKING_RULES : LogInfo.LOG_NETWORK_SIZES_RULES)
+                    + suiteRules.blocklist() + " (permitidas: " + suiteRules.allowlist() + ")");
+        }
+    }
+
+    /**
+     * Aplica las reglas vigentes a una sesión recién creada, bloqueando o midiendo las solicitudes según la suite.
+     * Si el navegador no admite DevTools o no hay reglas, la sesión se retorna sin cambios.
+     *
+     * @param driver la sesión recién creada.
+     * @return la misma sesión.
+     */
+    public static WebDriver apply(WebDriver driver) {
+        Rules current = rules;
+        if (!current.active() || !(driver instanceof HasDevTools hasDevTools)) return driver;
+
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+
+            List<Pattern> allowed = current.allowlist().stream().map(NetworkBlocker::wildcard).toList();
+            Map<String, Pattern> blocked = new LinkedHashMap<>();
+            current.blocklist().forEach(pattern -> blocked.put(pattern, wildcard(pattern)));
+
+            if (!current.blocking()) {
+                measure(devTools, blocked, allowed);
+                return driver;
+            }
+
+            Stats stats = STATS.computeIfAbsent(((RemoteWebDriver) driver).getSessionId(), id -> new Stats());
+            Event<Map<String, Object>> requestPaused = new Event<>("Fetch.requestPaused",
+                    input -> input.read(Json.MAP_TYPE));
+            devTools.addListener(requestPaused, paused -> {
+                String requestId = String.valueOf(paused.get("requestId"));
+                String url = String.valueOf(((Map<?, ?>) paused.get("request")).get("url"));
+
+                String pattern = matching(url, blocked, allowed);
+                if (pattern == null) {
+                    devTools.send(new Command<>("Fetch.continueRequest", Map.of("requestId", requestId)));
+                    return;
+                }
+                stats.requests.increment();
+                stats.bytes.add(BlockedRequestSizes.estimate(pattern));
+                devTools.send(new Command<>("Fetch.failRequest",
+                        Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+            });
+
+            List<Map<String, Object>> patterns = current.blocklist().stream()
+                    .map(pattern -> Map.<String, Object>of("urlPattern", pattern, "requestStage", "Request"))
+                    .collect(Collectors.toList());
+            devTools.send(new Command<>("Fetch.enable", Map.of("patterns", patterns)));
+        } catch (WebDriverException e) {
+            Log.warn(LogInfo.LOG_NETWORK_BLOCKING_ERROR + e.getMessage());
+        }
+        return driver;
+    }
+
+    /**
+     * Registra en {@link BlockedRequestSizes} el tamaño de las solicitudes descargadas que coinciden con la lista de
+     * bloqueo.
+     */
+    private static void measure(DevTools devTools, Map<String, Pattern> blocked, List<Pattern> allowed) {
+        // Patrón de cada solicitud en curso que coincide con la lista de bloqueo
+        Map<String, String> pending = new ConcurrentHashMap<>();
+
+        devTools.addListener(new Event<Map<String, Object>>("Network.requestWillBeSent",
+                input -> input.read(Json.MAP_TYPE)), sent -> {
+            String url = String.valueOf(((Map<?, ?>) sent.get("request")).get("url"));
+            String pattern = matching(url, blocked, allowed);
+            if (pattern != null) pending.put(String.valueOf(sent.get("requestId")), pattern);
+        });
+        devTools.addListener(new Event<Map<String, Object>>("Network.loadingFinished",
+                input -> input.read(Json.MAP_TYPE)), done -> {
+            String pattern = pending.remove(String.valueOf(done.get("requestId")));
+            if (pattern != null && done.get("encodedDataLength") instanceof Number length) {
+                BlockedRequestSizes.record(pattern, length.longValue());
+            }
+        });
+        devTools.addListener(new Event<Map<String, Object>>("Network.loadingFailed",
+                input -> input.read(Json.MAP_TYPE)), failed -> pending.remove(String.valueOf(failed.get("requestId"))));
+        devTools.send(new Command<>("Network.enable", Map.of()));
+    }
+
+    /**
+     * Retorna el primer patrón de la lista de bloqueo que coincide con la URL, o null si ninguno coincide o la URL
+     * está en la lista de permitidas.
+     */
+    private static String matching(String url, Map<String, Pattern> blocked, List<Pattern> allowed) {
+        if (allowed.stream().anyMatch(pattern -> pattern.matcher(url).matches())) return null;
+        for (Map.Entry<String, Pattern> entry : blocked.entrySet()) {
+            if (entry.getValue().matcher(url).matches()) return entry.getKey();
+        }
+        return null;
+    }
+
+    /**
+     * Asocia la sesión al hilo de la prueba que la utiliza, para informar sus estadísticas en cada paso.
+     *
+     * @param driver la sesión que utilizará el hilo actual.
+     */
+    public static void bind(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver remote) {
+            Stats stats = STATS.get(remote.getSessionId());
+            if (stats != null) {
+                CURRENT.set(stats);
+                return;
+            }
+        }
+        CURRENT.remove();
+    }
+
+    /**
+     * Retorna las estadísticas de la sesión utilizada por el hilo actual.
+     *
+     * @return las estadísticas, o null si la sesión no tiene bloqueo de red.
+     */
+    public static Stats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Descarta las estadísticas de una sesión cerrada.
+     *
+     * @param session identificador de la sesión cerrada, obtenido antes de cerrarla.
+     */
+    public static void forget(SessionId session) {
+        if (session != null) STATS.remove(session);
+    }
+
+    /**
+     * Convierte un patrón con comodines de CDP en una expresión regular.
+     */
+    private static Pattern wildcard(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
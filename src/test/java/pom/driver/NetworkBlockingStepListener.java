@@ -0,0 +1,54 @@
+package pom.driver;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.StepResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Agrega a cada paso del reporte de Allure la cantidad de solicitudes bloqueadas por {@link NetworkBlocker} durante
+ * el paso y los bytes que se evitaron descargar, estimados con los tamaños medidos por {@link BlockedRequestSizes}.
+ *
+ * <p>
+ * Se registra mediante META-INF/services/io.qameta.allure.listener.StepLifecycleListener. Los pasos pueden estar
+ * anidados, por lo que se guarda una medición inicial por cada paso abierto en el hilo.
+ * </p>
+ */
+public class NetworkBlockingStepListener implements StepLifecycleListener {
+
+    private static final String PARAMETER_REQUESTS = "Solicitudes bloqueadas";
+    private static final String PARAMETER_BYTES = "Bytes ahorrados (aprox.)";
+
+    /**
+     * Medición de un paso cuya sesión no tiene bloqueo de red; se compara por referencia.
+     */
+    private static final long[] NO_BLOCKING = new long[0];
+
+    /**
+     * Medición inicial de cada paso abierto: solicitudes y bytes, o {@link #NO_BLOCKING}.
+     */
+    private static final ThreadLocal<Deque<long[]>> STARTS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeStepStart(StepResult result) {
+        NetworkBlocker.Stats stats = NetworkBlocker.current();
+        STARTS.get().push(stats == null ? NO_BLOCKING : new long[]{stats.requests(), stats.bytes()});
+    }
+
+    @Override
+    public void beforeStepStop(StepResult result) {
+        Deque<long[]> starts = STARTS.get();
+        long[] start = starts.isEmpty() ? NO_BLOCKING : starts.pop();
+        NetworkBlocker.Stats stats = NetworkBlocker.current();
+        if (stats == null || start == NO_BLOCKING) return;
+
+        result.getParameters().add(new Parameter()
+                .setName(PARAMETER_REQUESTS)
+                .setValue(String.valueOf(stats.requests() - start[0])));
+        result.getParameters().add(new Parameter()
+                .setName(PARAMETER_BYTES)
+                .setValue(String.valueOf(stats.bytes() - start[1])));
+    }
+}
@@ -0,0 +1,150 @@
+package pom.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import pom.general_repository.LogInfo;
+import utils.Log;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detecta, mediante los eventos {@code Network} de Chrome DevTools Protocol, cuándo una página dejó de hacer
+ * solicitudes XHR y fetch.
+ *
+ * <p>
+ * En una aplicación Angular la página sigue cargando datos después del evento {@code load}, y a la vez ese evento
+ * espera recursos que ninguna validación necesita. Por eso cada sesión de Chrome o Edge registra las solicitudes
+ * XHR/fetch en curso ({@code Network.requestWillBeSent}, {@code Network.loadingFinished} y
+ * {@code Network.loadingFailed}), y {@link #awaitIdle(Duration, Duration)} espera a que no quede ninguna durante
+ * una ventana de silencio. Combinado con la estrategia de carga {@code eager}, la prueba continúa en cuanto el DOM
+ * está listo y los datos de la aplicación llegaron, sin esperar imágenes ni scripts de terceros.
+ * </p>
+ */
+public final class NetworkIdle {
+
+    private static final Set<String> TRACKED_TYPES = Set.of("XHR", "Fetch");
+    private static final Map<SessionId, NetworkIdle> TRACKERS = new ConcurrentHashMap<>();
+
+    /**
+     * Identificadores de las solicitudes en curso; protegido por el monitor de la instancia.
+     */
+    private final Set<String> inFlight = new HashSet<>();
+    private long lastActivity = System.nanoTime();
+
+    private NetworkIdle() {
+    }
+
+    /**
+     * Comienza a registrar las solicitudes de una sesión recién creada. Si el navegador no admite DevTools, la
+     * sesión se retorna sin cambios y {@link #of(WebDriver)} no tendrá registro para ella.
+     *
+     * @param driver la sesión recién creada.
+     * @return la misma sesión.
+     */
+    public static WebDriver track(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools)) return driver;
+
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkIdle tracker = new NetworkIdle();
+
+            devTools.addListener(new Event<Map<String, Object>>("Network.requestWillBeSent",
+                    input -> input.read(Json.MAP_TYPE)), sent -> {
+                if (TRACKED_TYPES.contains(String.valueOf(sent.get("type")))) {
+                    tracker.started(String.valueOf(sent.get("requestId")));
+                }
+            });
+            devTools.addListener(new Event<Map<String, Object>>("Network.loadingFinished",
+                    input -> input.read(Json.MAP_TYPE)), done -> tracker.finished(String.valueOf(done.get("requestId"))));
+            devTools.addListener(new Event<Map<String, Object>>("Network.loadingFailed",
+                    input -> input.read(Json.MAP_TYPE)), done -> tracker.finished(String.valueOf(done.get("requestId"))));
+            devTools.send(new Command<>("Network.enable", Map.of()));
+
+            TRACKERS.put(((RemoteWebDriver) driver).getSessionId(), tracker);
+        } catch (WebDriverException e) {
+            Log.warn(LogInfo.LOG_NETWORK_IDLE_ERROR + e.getMessage());
+        }
+        return driver;
+    }
+
+    /**
+     * Retorna el registro de solicitudes de una sesión.
+     *
+     * @param driver la sesión.
+     * @return el registro, o null si la sesión no admite DevTools.
+     */
+    public static NetworkIdle of(WebDriver driver) {
+        return driver instanceof RemoteWebDriver remote ? TRACKERS.get(remote.getSessionId()) : null;
+    }
+
+    /**
+     * Descarta el registro de solicitudes de una sesión cerrada.
+     *
+     * @param session identificador de la sesión cerrada, obtenido antes de cerrarla.
+     */
+    public static void forget(SessionId session) {
+        if (session != null) TRACKERS.remove(session);
+    }
+
+    /**
+     * Espera a que la página no tenga solicitudes XHR/fetch en curso durante la ventana de silencio indicada.
+     * La ventana se cuenta desde la última solicitud o desde la llamada, lo que ocurra después, de modo que una
+     * solicitud que se inicia justo después de una acción también se espera.
+     *
+     * @param quiet   tiempo sin solicitudes en curso que se considera inactividad.
+     * @param timeout tiempo máximo de espera.
+     * @return true si la red quedó inactiva; false si se agotó el tiempo o el hilo fue interrumpido.
+     */
+    public synchronized boolean awaitIdle(Duration quiet, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long idleSince = Math.max(lastActivity, start);
+                if (inFlight.isEmpty() && now - idleSince >= quiet.toNanos()) return true;
+                if (now >= deadline) return false;
+
+                long remaining = inFlight.isEmpty() ? idleSince + quiet.toNanos() - now : deadline - now;
+                TimeUnit.NANOSECONDS.timedWait(this, Math.min(remaining, deadline - now));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Retorna la cantidad de solicitudes XHR/fetch en curso.
+     *
+     * @return la cantidad de solicitudes.
+     */
+    public synchronized int inFlight() {
+        return inFlight.size();
+    }
+
+    private synchronized void started(String requestId) {
+        inFlight.add(requestId);
+        lastActivity = System.nanoTime();
+    }
+
+    private synchronized void finished(String requestId) {
+        if (inFlight.remove(requestId)) {
+            lastActivity = System.nanoTime();
+            notifyAll();
+        }
+    }
+}
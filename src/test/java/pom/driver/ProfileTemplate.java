@@ -0,0 +1,411 @@
+package pom.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.wait.AdaptiveWait;
+import utils.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Plantillas de perfil ({@code user-data-dir}) para reducir el arranque en frío de Chrome y Edge.
+ *
+ * <p>
+ * Con un perfil vacío, el navegador crea sus bases de datos, registra sus componentes y completa el estado de
+ * primera ejecución en cada sesión. La primera vez que se necesita, se inicia el navegador una sola vez sobre un
+ * directorio de plantilla para que deje ese trabajo hecho; luego cada sesión recibe una copia propia de la
+ * plantilla, que se elimina al cerrar la sesión ({@link #release(SessionId)}).
+ * </p>
+ *
+ * <p>
+ * En Linux la copia se hace con {@code cp --reflink=auto}, que comparte los bloques con la plantilla
+ * (copy-on-write) en sistemas de archivos que lo admiten; en otros casos se copian los archivos. No se usan
+ * enlaces duros porque el navegador modifica sus bases de datos en el mismo archivo, lo que alteraría la
+ * plantilla y las demás sesiones. La plantilla se conserva entre ejecuciones en "profileTemplate.directory";
+ * para regenerarla basta con eliminar ese directorio.
+ * </p>
+ *
+ * <p>
+ * Un perfil creado por otra versión del navegador se migra en cada arranque, lo que anula el ahorro. Por eso la
+ * plantilla se guarda por navegador y por la versión pedida en las capacidades ({@code browserVersion}), por
+ * ejemplo "chrome/128", o "chrome/installed" si no se pide una. La plantilla registra la versión real con que se
+ * creó; si una sesión informa otra versión (el navegador instalado se actualizó), la plantilla se marca como
+ * desactualizada y se regenera en la siguiente ejecución.
+ * </p>
+ */
+public final class ProfileTemplate {
+
+    private static final String USER_DATA_DIR_ARGUMENT = "--user-data-dir=";
+    private static final String TEMPLATE_MARKER = "Local State";
+    private static final String DEFAULT_PROFILE = "Default";
+    private static final String VERSION_FILE = "browser-version";
+    private static final String OUTDATED_MARKER = "outdated";
+    private static final String UNPINNED_VERSION = "installed";
+    private static final String SESSIONS_DIRECTORY = "sessions";
+
+    /**
+     * Archivos de bloqueo de la instancia que creó la plantilla y archivos propios de la plantilla; no deben
+     * copiarse en el perfil de las sesiones.
+     */
+    private static final Set<String> EXCLUDED_FILES = Set.of("SingletonLock", "SingletonSocket", "SingletonCookie",
+            "lockfile", VERSION_FILE, OUTDATED_MARKER);
+
+    /**
+     * Tiempo sin cambios en el perfil tras el cual se considera que el navegador completó su inicialización.
+     */
+    private static final Duration TEMPLATE_QUIET = Duration.ofMillis(500);
+
+    /**
+     * Tiempo máximo de espera de la inicialización del perfil al crear la plantilla.
+     */
+    private static final Duration TEMPLATE_READY_TIME_OUT = Duration.ofSeconds(15);
+
+    private static final Map<String, ProfileTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<SessionId, Path> PROFILES = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> PROFILES.values().forEach(ProfileTemplate::delete)));
+    }
+
+    private final String browserType;
+    private final Path template;
+    private final Path sessions;
+    private final AtomicBoolean outdated = new AtomicBoolean();
+    private CompletableFuture<Path> ready;
+    private volatile String builtWith;
+
+    private ProfileTemplate(String browserType, String version, Path root) {
+        this.browserType = browserType;
+        this.template = root.resolve(browserType.toLowerCase()).resolve(version).toAbsolutePath();
+        this.sessions = root.resolve(SESSIONS_DIRECTORY).toAbsolutePath();
+    }
+
+    /**
+     * Retorna la plantilla del navegador y la versión indicados, ubicada en "profileTemplate.directory".
+     *
+     * @param browserType tipo de navegador ("Chrome" o "Edge").
+     * @param options     opciones de la sesión, de las que se toma la versión pedida ({@code browserVersion}).
+     * @return la plantilla compartida para dicho navegador y versión.
+     */
+    public static ProfileTemplate of(String browserType, Capabilities options) {
+        String requested = options.getBrowserVersion();
+        String version = requested == null || requested.isBlank()
+                ? UNPINNED_VERSION : requested.replaceAll("[^A-Za-z0-9._-]", "_");
+        return TEMPLATES.computeIfAbsent(browserType + "/" + version, key -> new ProfileTemplate(browserType,
+                version,
+                Paths.get(ConfigurationSnapshot.current().webDriverConfiguration().profileTemplate().directory())));
+    }
+
+    /**
+     * Indica si las sesiones de Chrome y Edge deben iniciarse desde una plantilla de perfil.
+     *
+     * @return el valor de "profileTemplate.enabled" en config.json.
+     */
+    public static boolean enabled() {
+        return ConfigurationSnapshot.current().webDriverConfiguration().profileTemplate().enabled();
+    }
+
+    /**
+     * Prepara en segundo plano el perfil de una sesión nueva: espera la plantilla (creándola la primera vez con
+     * las opciones indicadas) y la copia en un directorio propio de la sesión.
+     *
+     * @param options opciones con que se iniciará la sesión; no se modifican.
+     * @return el directorio del perfil, o null si la plantilla no pudo crearse y la sesión debe usar un perfil
+     * vacío.
+     */
+    public CompletableFuture<Path> newProfile(ChromiumOptions<?> options) {
+        return template(options).thenApplyAsync(ready -> ready == null ? null : copy(ready), DriverFactory.EXECUTOR);
+    }
+
+    /**
+     * Asocia un perfil copiado a su sesión, para eliminarlo cuando la sesión se cierre.
+     *
+     * @param driver  la sesión iniciada con el perfil.
+     * @param profile el directorio del perfil.
+     */
+    public static void attach(WebDriver driver, Path profile) {
+        if (driver instanceof RemoteWebDriver remote) {
+            PROFILES.put(remote.getSessionId(), profile);
+        }
+    }
+
+    /**
+     * Compara la versión del navegador de una sesión iniciada desde la plantilla con la versión con que se creó la
+     * plantilla. Si difieren, la plantilla se marca como desactualizada para regenerarla en la próxima ejecución;
+     * las sesiones de la ejecución en curso la siguen usando.
+     *
+     * @param driver la sesión iniciada con una copia de la plantilla.
+     */
+    public void verify(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities session) || outdated.get()) return;
+        String actual = session.getCapabilities().getBrowserVersion();
+        String recorded = builtWith();
+        if (recorded == null || actual == null || actual.isBlank() || recorded.equals(actual)) return;
+        if (outdated.compareAndSet(false, true)) {
+            Log.warn(LogInfo.LOG_PROFILE_TEMPLATE_OUTDATED + template + " (" + recorded + " -> " + actual + ")");
+            try {
+                Files.writeString(template.resolve(OUTDATED_MARKER), actual);
+            } catch (IOException e) {
+                Log.warn(LogInfo.LOG_PROFILE_TEMPLATE_ERROR + browserType + " - " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Elimina el perfil copiado de una sesión ya cerrada; si la sesión no usa plantilla, no hace nada.
+     *
+     * @param session identificador de la sesión cerrada, obtenido antes de cerrarla.
+     */
+    public static void release(SessionId session) {
+        Path profile = session == null ? null : PROFILES.remove(session);
+        if (profile != null) delete(profile);
+    }
+
+    /**
+     * Agrega a las opciones del navegador el directorio de perfil indicado.
+     *
+     * @param options opciones de la sesión.
+     * @param profile directorio del perfil.
+     */
+    public static void use(ChromiumOptions<?> options, Path profile) {
+        options.addArguments(USER_DATA_DIR_ARGUMENT + profile);
+    }
+
+    /**
+     * Retorna la plantilla, creándola una sola vez aunque varias sesiones la pidan al mismo tiempo.
+     */
+    private synchronized CompletableFuture<Path> template(ChromiumOptions<?> options) {
+        if (ready == null) {
+            if (Files.exists(template.resolve(OUTDATED_MARKER))) discard();
+            ready = Files.exists(template.resolve(TEMPLATE_MARKER))
+                    ? CompletableFuture.completedFuture(template)
+                    : CompletableFuture.supplyAsync(() -> build(options), DriverFactory.EXECUTOR);
+        }
+        return ready;
+    }
+
+    /**
+     * Retira una plantilla desactualizada; se mueve antes de eliminarla para que otra ejecución no copie una
+     * plantilla a medio eliminar.
+     */
+    private void discard() {
+        Path stale = template.resolveSibling(template.getFileName() + "-" + UUID.randomUUID());
+        try {
+            Files.move(template, stale, StandardCopyOption.ATOMIC_MOVE);
+            Log.info(LogInfo.LOG_PROFILE_TEMPLATE_DISCARDED + template);
+            delete(stale);
+        } catch (IOException e) {
+            Log.warn(LogInfo.LOG_PROFILE_DELETE_ERROR + template + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Inicia el navegador sobre un directorio temporal, lo cierra una vez inicializado y publica el directorio
+     * como plantilla, junto con la versión del navegador que lo creó.
+     */
+    private Path build(ChromiumOptions<?> options) {
+        long start = System.nanoTime();
+        Path building = template.resolveSibling(template.getFileName() + "-" + UUID.randomUUID());
+        Log.info(LogInfo.LOG_PROFILE_TEMPLATE_BUILD + browserType);
+        try {
+            Files.createDirectories(template.getParent());
+            WebDriver driver;
+            if (options instanceof EdgeOptions edgeOptions) {
+                EdgeOptions templateOptions = new EdgeOptions().merge(edgeOptions);
+                use(templateOptions, building);
+                driver = new EdgeDriver(templateOptions);
+            } else {
+                ChromeOptions templateOptions = new ChromeOptions().merge(options);
+                use(templateOptions, building);
+                driver = new ChromeDriver(templateOptions);
+            }
+            String version;
+            try {
+                version = ((HasCapabilities) driver).getCapabilities().getBrowserVersion();
+                driver.get("about:blank");
+                awaitSettled(building.resolve(DEFAULT_PROFILE));
+            } finally {
+                // Al cerrarse, el navegador escribe en disco el estado pendiente, incluido "Local State"
+                driver.quit();
+            }
+            if (!Files.exists(building.resolve(TEMPLATE_MARKER))) {
+                throw new IOException(TEMPLATE_MARKER + " - " + building);
+            }
+            Files.writeString(building.resolve(VERSION_FILE), version == null ? "" : version);
+
+            Files.move(building, template, StandardCopyOption.ATOMIC_MOVE);
+            Log.info(LogInfo.LOG_PROFILE_TEMPLATE_READY + template + " ("
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms)");
+            return template;
+        } catch (WebDriverException | IOException e) {
+            Log.warn(LogInfo.LOG_PROFILE_TEMPLATE_ERROR + browserType + " - " + e.getMessage());
+        }
+        delete(building);
+        // Otra ejecución pudo haber publicado la plantilla al mismo tiempo
+        return Files.exists(template.resolve(TEMPLATE_MARKER)) ? template : null;
+    }
+
+    /**
+     * Espera a que el navegador termine de inicializar el perfil: que el directorio del perfil exista y que sus
+     * archivos no cambien durante {@link #TEMPLATE_QUIET}. Si no se estabiliza a tiempo, se registra una
+     * advertencia y la plantilla se guarda en su estado actual, que el navegador completa al cerrarse.
+     */
+    private void awaitSettled(Path profile) {
+        String[] previous = {null};
+        long[] since = {System.nanoTime()};
+        try {
+            AdaptiveWait.on(profile)
+                    .withTimeout(TEMPLATE_READY_TIME_OUT)
+                    .until(directory -> {
+                        String current = snapshot(directory);
+                        if (current == null || !current.equals(previous[0])) {
+                            previous[0] = current;
+                            since[0] = System.nanoTime();
+                            return false;
+                        }
+                        return System.nanoTime() - since[0] >= TEMPLATE_QUIET.toNanos();
+                    });
+        } catch (TimeoutException e) {
+            Log.warn(LogInfo.LOG_PROFILE_TEMPLATE_NOT_SETTLED + profile);
+        }
+    }
+
+    /**
+     * Resume el contenido de un directorio (archivos, tamaño total y última modificación), o null si no existe.
+     */
+    private static String snapshot(Path directory) {
+        if (!Files.isDirectory(directory)) return null;
+        long[] totals = new long[3];
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.filter(Files::isRegularFile).forEach(path -> {
+                try {
+                    totals[0]++;
+                    totals[1] += Files.size(path);
+                    totals[2] = Math.max(totals[2], Files.getLastModifiedTime(path).toMillis());
+                } catch (IOException e) {
+                    // El navegador pudo eliminar el archivo mientras se recorría; se considera un cambio
+                    totals[2] = System.nanoTime();
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            return null;
+        }
+        return totals[0] + "/" + totals[1] + "/" + totals[2];
+    }
+
+    /**
+     * Retorna la versión del navegador con que se creó la plantilla, o null si no se registró.
+     */
+    private String builtWith() {
+        if (builtWith == null) {
+            try {
+                Path file = template.resolve(VERSION_FILE);
+                builtWith = Files.exists(file) ? Files.readString(file).trim() : "";
+            } catch (IOException e) {
+                builtWith = "";
+            }
+        }
+        return builtWith.isEmpty() ? null : builtWith;
+    }
+
+    /**
+     * Copia la plantilla en un directorio nuevo para una sesión.
+     */
+    private Path copy(Path source) {
+        Path profile = sessions.resolve(browserType.toLowerCase() + "-" + UUID.randomUUID());
+        try {
+            Files.createDirectories(sessions);
+            if (!reflinkCopy(source, profile)) {
+                delete(profile);
+                copyTree(source, profile);
+            }
+            for (String excluded : EXCLUDED_FILES) {
+                Files.deleteIfExists(profile.resolve(excluded));
+            }
+            return profile;
+        } catch (IOException e) {
+            delete(profile);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Copia el directorio con {@code cp --reflink=auto}; solo en Linux.
+     *
+     * @return true si la copia se completó.
+     */
+    private static boolean reflinkCopy(Path source, Path target) {
+        if (!System.getProperty("os.name").toLowerCase().contains("linux")) return false;
+        try {
+            Process process = new ProcessBuilder(List.of("cp", "-a", "--reflink=auto",
+                    source.toString(), target.toString()))
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            return process.waitFor() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void copyTree(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (Files.isSymbolicLink(path) || EXCLUDED_FILES.contains(path.getFileName().toString())) continue;
+                Path destination = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(destination);
+                } else {
+                    Files.copy(path, destination, StandardCopyOption.COPY_ATTRIBUTES);
+                }
+            }
+        }
+    }
+
+    /**
+     * Elimina un directorio de perfil y todo su contenido.
+     *
+     * @param directory el directorio a eliminar.
+     */
+    static void delete(Path directory) {
+        if (!Files.exists(directory)) return;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            Log.warn(LogInfo.LOG_PROFILE_DELETE_ERROR + directory + " - " + e.getMessage());
+        }
+    }
+}
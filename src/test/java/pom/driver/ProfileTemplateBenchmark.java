@@ -0,0 +1,61 @@
+package pom.driver;
+
+import org.openqa.selenium.WebDriver;
+import pom.general_repository.LogInfo;
+import utils.Log;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el tiempo de inicio de sesiones con perfil vacío y con plantilla de perfil ({@link ProfileTemplate}).
+ *
+ * <p>
+ * Inicia y cierra secuencialmente la cantidad indicada de sesiones en cada modalidad, con la configuración de
+ * config.json, e informa el promedio, la mediana y el máximo. La plantilla se crea antes de medir, de modo que
+ * solo se compara el inicio de las sesiones. Uso:
+ * </p>
+ * <pre>
+ * mvn test-compile exec:java "-Dexec.mainClass=pom.driver.ProfileTemplateBenchmark" "-Dexec.classpathScope=test" "-Dexec.args=Chrome 10"
+ * </pre>
+ */
+public final class ProfileTemplateBenchmark {
+
+    private ProfileTemplateBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        String browserType = args.length > 0 ? args[0] : "Chrome";
+        int sessions = Math.max(1, args.length > 1 ? Integer.parseInt(args[1]) : 5);
+
+        // Crea la plantilla (y descarta el primer arranque del navegador) antes de medir
+        DriverFactory.quit(DriverFactory.create(browserType, true));
+
+        long[] empty = measure(browserType, sessions, false);
+        long[] template = measure(browserType, sessions, true);
+        report(browserType + " con perfil vacío", empty);
+        report(browserType + " con plantilla de perfil", template);
+        DriverFactory.shutdown();
+    }
+
+    private static long[] measure(String browserType, int sessions, boolean profileTemplate) {
+        long[] millis = new long[sessions];
+        for (int i = 0; i < sessions; i++) {
+            long start = System.nanoTime();
+            CompletableFuture<WebDriver> session = DriverFactory.create(browserType, profileTemplate);
+            session.join();
+            millis[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            DriverFactory.quit(session);
+        }
+        return millis;
+    }
+
+    private static void report(String mode, long[] millis) {
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        Log.info(LogInfo.LOG_PROFILE_BENCHMARK + mode + " - promedio: "
+                + (long) Arrays.stream(sorted).average().orElse(0) + " ms, mediana: "
+                + sorted[sorted.length / 2] + " ms, máximo: " + sorted[sorted.length - 1] + " ms");
+    }
+}
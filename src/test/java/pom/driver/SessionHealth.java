@@ -0,0 +1,207 @@
+package pom.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import pom.general_repository.config.WebDriverConfiguration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Estado de salud de una sesión del pool, evaluado cada vez que una prueba la devuelve.
+ *
+ * <p>
+ * Una sesión de Chrome acumula memoria de sus procesos de renderizado a medida que recorre flujos y abre
+ * pestañas, y las pruebas que la reciben después se vuelven más lentas. Por cada sesión se registra la cantidad
+ * de pruebas atendidas, la memoria residente (RSS) del navegador y de sus procesos hijos, leída desde
+ * {@code /proc}, y el tiempo de respuesta de un comando simple comparado con el de la sesión recién creada.
+ * {@link #check(WebDriver, WebDriverConfiguration.SessionPool.Recycle)} indica si alguno supera su umbral.
+ * </p>
+ */
+final class SessionHealth {
+
+    private static final Path PROC = Paths.get("/proc");
+    private static final String USER_DATA_DIR_ARGUMENT = "--user-data-dir=";
+    private static final String FIREFOX_PROCESS_ID = "moz:processID";
+    private static final List<String> CHROMIUM_CAPABILITIES = List.of("chrome", "msedge");
+    private static final String PROBE_SCRIPT = "return 1;";
+    private static final int PROBES = 3;
+
+    /**
+     * Tiempos de respuesta menores a este valor no se consideran degradados, aunque superen el factor.
+     */
+    private static final long MIN_DRIFT_NANOS = 25_000_000L;
+
+    private static final Map<SessionId, SessionHealth> SESSIONS = new ConcurrentHashMap<>();
+
+    private int tests;
+    private long baselineNanos = Long.MAX_VALUE;
+    private Set<Long> rootProcesses;
+
+    private SessionHealth() {
+    }
+
+    /**
+     * Registra que la sesión atendió una prueba más y evalúa sus umbrales. Un umbral en 0 no se evalúa.
+     *
+     * @param driver     la sesión devuelta al pool.
+     * @param thresholds los umbrales de "sessionPool.recycle".
+     * @return el motivo por el que la sesión debe reemplazarse, o null si está sana.
+     */
+    static String check(WebDriver driver, WebDriverConfiguration.SessionPool.Recycle thresholds) {
+        if (!(driver instanceof RemoteWebDriver remote)) return null;
+        SessionHealth health = SESSIONS.computeIfAbsent(remote.getSessionId(), id -> new SessionHealth());
+        health.tests++;
+
+        if (thresholds.maxTests() > 0 && health.tests >= thresholds.maxTests()) {
+            return "pruebas atendidas: " + health.tests;
+        }
+
+        if (thresholds.maxRssMb() > 0) {
+            long rss = health.rssMb(remote);
+            if (rss > thresholds.maxRssMb()) {
+                return "memoria del navegador: " + rss + " MB";
+            }
+        }
+
+        long latency = probe(driver);
+        health.baselineNanos = Math.min(health.baselineNanos, latency);
+        if (thresholds.latencyFactor() > 0 && latency > MIN_DRIFT_NANOS
+                && latency > health.baselineNanos * thresholds.latencyFactor()) {
+            return "tiempo de respuesta: " + String.format("%.1f", (double) latency / health.baselineNanos)
+                    + " veces el inicial";
+        }
+        return null;
+    }
+
+    /**
+     * Mide el menor de varios tiempos de respuesta de un comando simple, para descartar pausas puntuales.
+     */
+    private static long probe(WebDriver driver) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < PROBES; i++) {
+            long start = System.nanoTime();
+            ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Olvida el estado de una sesión que se cerró.
+     *
+     * @param session identificador de la sesión cerrada, obtenido antes de cerrarla.
+     */
+    static void forget(SessionId session) {
+        if (session != null) SESSIONS.remove(session);
+    }
+
+    /**
+     * Suma la memoria residente del navegador y de todos sus procesos hijos.
+     *
+     * @return la memoria en MB, o 0 si el navegador no se ejecuta en este equipo o no hay {@code /proc}.
+     */
+    private long rssMb(RemoteWebDriver driver) {
+        if (!Files.isDirectory(PROC)) return 0;
+        Map<Long, Long> parents = parents();
+        if (rootProcesses == null || rootProcesses.isEmpty()) {
+            rootProcesses = browserProcesses(driver.getCapabilities(), parents.keySet());
+        }
+        if (rootProcesses.isEmpty()) return 0;
+
+        long kilobytes = 0;
+        for (Long pid : parents.keySet()) {
+            if (descendsFrom(pid, parents)) kilobytes += rssKb(pid);
+        }
+        return kilobytes / 1024;
+    }
+
+    private boolean descendsFrom(Long pid, Map<Long, Long> parents) {
+        Set<Long> visited = new HashSet<>();
+        for (Long current = pid; current != null && visited.add(current); current = parents.get(current)) {
+            if (rootProcesses.contains(current)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Identifica el proceso principal del navegador: Firefox informa su PID; Chrome y Edge se buscan por el
+     * directorio de perfil que informan en sus capacidades.
+     */
+    private static Set<Long> browserProcesses(Capabilities capabilities, Set<Long> pids) {
+        Object firefoxPid = capabilities.getCapability(FIREFOX_PROCESS_ID);
+        if (firefoxPid instanceof Number pid) return Set.of(pid.longValue());
+
+        String userDataDir = null;
+        for (String name : CHROMIUM_CAPABILITIES) {
+            if (capabilities.getCapability(name) instanceof Map<?, ?> browser && browser.get("userDataDir") != null) {
+                userDataDir = String.valueOf(browser.get("userDataDir"));
+            }
+        }
+        if (userDataDir == null) return Set.of();
+
+        Set<Long> roots = new HashSet<>();
+        for (Long pid : pids) {
+            try {
+                String commandLine = Files.readString(PROC.resolve(pid + "/cmdline")).replace('\0', ' ');
+                if (commandLine.contains(USER_DATA_DIR_ARGUMENT + userDataDir)) roots.add(pid);
+            } catch (IOException e) {
+                // El proceso terminó durante la búsqueda
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Retorna el proceso padre de cada proceso del equipo.
+     */
+    private static Map<Long, Long> parents() {
+        Map<Long, Long> parents = new HashMap<>();
+        try (Stream<Path> entries = Files.list(PROC)) {
+            entries.map(entry -> entry.getFileName().toString())
+                    .filter(name -> name.chars().allMatch(Character::isDigit))
+                    .forEach(name -> {
+                        try {
+                            // El nombre del proceso va entre paréntesis y puede contener espacios
+                            String stat = Files.readString(PROC.resolve(name + "/stat"));
+                            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+                            parents.put(Long.parseLong(name), Long.parseLong(fields[1]));
+                        } catch (IOException | RuntimeException e) {
+                            // El proceso terminó durante la lectura
+                        }
+                    });
+        } catch (IOException e) {
+            return parents;
+        }
+        return parents;
+    }
+
+    /**
+     * Retorna la memoria residente de un proceso.
+     *
+     * @param pid identificador del proceso.
+     * @return la memoria en KB, o 0 si el proceso terminó o no hay {@code /proc}.
+     */
+    static long rssKb(long pid) {
+        try (Stream<String> lines = Files.lines(PROC.resolve(pid + "/status"))) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                    .findFirst()
+                    .orElse(0L);
+        } catch (IOException | RuntimeException e) {
+            return 0L;
+        }
+    }
+}
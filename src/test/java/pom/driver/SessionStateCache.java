@@ -0,0 +1,324 @@
+package pom.driver;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import pom.Base;
+import pom.TestContext;
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.general_repository.config.WebDriverConfiguration;
+import pom.wait.AdaptiveWait;
+import utils.Log;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reutiliza el estado de una sesión autenticada (cookies, almacenamiento local y de sesión) entre las pruebas.
+ *
+ * <p>
+ * La caché guarda un conjunto acotado de estados ("sessionCache.maxStates"), capturados tras iniciar sesión y
+ * antes de impersonalizar. Cada prueba toma en préstamo exclusivo un estado libre y lo restaura antes de visitar la
+ * URL de pruebas: en Chrome y Edge mediante CDP ({@code Network.setCookies} y un script que carga el almacenamiento
+ * al abrir el documento); en los demás navegadores mediante WebDriver. Si no hay estados libres, la prueba inicia
+ * sesión por la interfaz y, mientras quede espacio en el conjunto, el estado capturado pasa a ser suyo. El préstamo
+ * se devuelve al finalizar la prueba, desde {@link TestContext#onFinish(Runnable)}.
+ * </p>
+ *
+ * <p>
+ * Un estado nunca se presta a dos sesiones vivas a la vez porque el backend guarda la impersonalización en la
+ * sesión del servidor: dos pruebas en paralelo con las mismas cookies verían el RUT impersonalizado por la otra.
+ * Como el préstamo no depende del hilo, el estado se reutiliza también cuando cada {@code <test>} de la suite se
+ * ejecuta en su propio hilo.
+ * </p>
+ *
+ * <p>
+ * Un estado se descarta al cumplirse "sessionCache.ttlSeconds" o cuando, tras restaurarlo, la página no muestra
+ * el elemento que confirma la autenticación; en ese caso la prueba vuelve a iniciar sesión por la interfaz y
+ * captura un estado nuevo.
+ * </p>
+ *
+ * <p>Ejemplo de uso:</p>
+ * <pre>
+ * {@code
+ * SessionStateCache.shared().authenticate(page, urlTest, Elements.ELM_MICHA_TEXTBOX_IMPERSONALIZADOR,
+ *         page::iniciarSesion);
+ * }
+ * </pre>
+ */
+public final class SessionStateCache {
+
+    /**
+     * Tiempo máximo, en segundos, para confirmar que la página quedó autenticada.
+     */
+    private static final long VALIDATION_TIME_OUT_SECONDS = 15L;
+
+    private static final String CAPTURE_STORAGE_JS =
+            "return {local: Object.assign({}, window.localStorage), session: Object.assign({}, window.sessionStorage)};";
+    private static final String RESTORE_STORAGE_JS =
+            "(function (origin, local, session) {"
+                    + " if (window.location.origin !== origin) return;"
+                    + " for (var key in local) window.localStorage.setItem(key, local[key]);"
+                    + " for (var key in session) window.sessionStorage.setItem(key, session[key]);"
+                    + "})(%s, %s, %s);";
+
+    /**
+     * Campos de una cookie de {@code Network.getAllCookies} que acepta {@code Network.setCookies}.
+     */
+    private static final Set<String> COOKIE_PARAMS = Set.of("name", "value", "domain", "path", "secure",
+            "httpOnly", "sameSite", "expires", "priority", "sourceScheme", "sourcePort");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final SessionStateCache SHARED = new SessionStateCache();
+
+    /**
+     * Estado capturado tras un inicio de sesión exitoso.
+     *
+     * @param origin         origen (esquema, host y puerto) al que pertenece el almacenamiento.
+     * @param cookies        cookies de todos los dominios, en el formato de CDP.
+     * @param localStorage   contenido de {@code window.localStorage}.
+     * @param sessionStorage contenido de {@code window.sessionStorage}.
+     * @param expiresAt      instante a partir del cual el estado ya no se reutiliza.
+     */
+    record SessionState(String origin, List<Map<String, Object>> cookies, Map<String, Object> localStorage,
+                        Map<String, Object> sessionStorage, Instant expiresAt) {
+
+        boolean expired() {
+            return Instant.now().isAfter(expiresAt);
+        }
+    }
+
+    /**
+     * Estados sin préstamo activo, listos para restaurarse.
+     */
+    private final Deque<SessionState> idle = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Cantidad de estados guardados, libres o prestados; nunca supera "sessionCache.maxStates".
+     */
+    private final AtomicInteger held = new AtomicInteger();
+
+    /**
+     * Retorna la caché de la JVM, compartida por todas las pruebas.
+     *
+     * @return la instancia compartida.
+     */
+    public static SessionStateCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Indica si las pruebas deben reutilizar el estado de la sesión autenticada.
+     *
+     * @return el valor de "sessionCache.enabled" en config.json.
+     */
+    public static boolean enabled() {
+        return ConfigurationSnapshot.current().webDriverConfiguration().sessionCache().enabled();
+    }
+
+    /**
+     * Deja la página autenticada en la URL indicada, restaurando un estado libre y vigente de la caché o iniciando
+     * sesión por la interfaz en caso contrario. El estado usado queda prestado a la prueba actual hasta que finalice.
+     *
+     * @param page          página cuyo driver se autentica.
+     * @param url           URL de pruebas.
+     * @param authenticated elemento que solo se muestra con la sesión iniciada.
+     * @param login         inicio de sesión completo por la interfaz, a partir de la página de la URL.
+     */
+    public void authenticate(Base page, String url, By authenticated, Runnable login) {
+        SessionState cached;
+        while ((cached = idle.pollFirst()) != null) {
+            long start = System.nanoTime();
+            if (cached.expired()) {
+                Log.info(LogInfo.LOG_SESSION_CACHE_EXPIRED);
+                held.decrementAndGet();
+                continue;
+            }
+            if (restore(page.getDriver(), cached, url) && validate(page.getDriver(), authenticated)) {
+                lease(cached);
+                Log.info(LogInfo.LOG_SESSION_CACHE_RESTORED
+                        + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+                return;
+            }
+            Log.warn(LogInfo.LOG_SESSION_CACHE_REJECTED);
+            held.decrementAndGet();
+            clear(page.getDriver());
+            break;
+        }
+
+        loginAndCapture(page, url, authenticated, login);
+    }
+
+    private void loginAndCapture(Base page, String url, By authenticated, Runnable login) {
+        long start = System.nanoTime();
+        page.visitUrl(url);
+        login.run();
+        if (!validate(page.getDriver(), authenticated)) {
+            throw new IllegalStateException(LogInfo.LOG_SESSION_CACHE_LOGIN_FAILED + url);
+        }
+        SessionState captured = capture(page.getDriver());
+        Log.info(LogInfo.LOG_SESSION_CACHE_CAPTURED
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+
+        int maxStates = ConfigurationSnapshot.current().webDriverConfiguration().sessionCache().maxStates();
+        if (held.incrementAndGet() <= maxStates) {
+            lease(captured);
+        } else {
+            // El conjunto está lleno: el estado solo sirve a esta prueba y no se guarda
+            held.decrementAndGet();
+        }
+    }
+
+    /**
+     * Presta el estado a la prueba actual hasta que finalice.
+     */
+    private void lease(SessionState leased) {
+        TestContext.current().onFinish(() -> release(leased));
+    }
+
+    /**
+     * Devuelve el estado a la caché, o lo descarta si ya expiró.
+     */
+    private void release(SessionState leased) {
+        if (leased.expired()) {
+            held.decrementAndGet();
+        } else {
+            idle.offerFirst(leased);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SessionState capture(WebDriver driver) {
+        WebDriverConfiguration.SessionCache configuration =
+                ConfigurationSnapshot.current().webDriverConfiguration().sessionCache();
+
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        if (driver instanceof HasCdp cdp) {
+            Object all = cdp.executeCdpCommand("Network.getAllCookies", Map.of()).get("cookies");
+            for (Map<String, Object> cookie : (List<Map<String, Object>>) all) {
+                Map<String, Object> param = new HashMap<>(cookie);
+                param.keySet().retainAll(COOKIE_PARAMS);
+                if (Boolean.TRUE.equals(cookie.get("session"))) param.remove("expires");
+                cookies.add(param);
+            }
+        } else {
+            for (Cookie cookie : driver.manage().getCookies()) {
+                Map<String, Object> param = new HashMap<>(cookie.toJson());
+                param.remove("expiry");
+                if (cookie.getExpiry() != null) param.put("expires", cookie.getExpiry().getTime() / 1000d);
+                cookies.add(param);
+            }
+        }
+
+        Map<String, Object> storage =
+                (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CAPTURE_STORAGE_JS);
+        return new SessionState(origin(driver.getCurrentUrl()), cookies,
+                (Map<String, Object>) storage.get("local"), (Map<String, Object>) storage.get("session"),
+                Instant.now().plusSeconds(configuration.ttlSeconds()));
+    }
+
+    /**
+     * Carga el estado en el navegador y visita la URL de pruebas.
+     *
+     * @return false si el estado no se pudo cargar.
+     */
+    private static boolean restore(WebDriver driver, SessionState cached, String url) {
+        try {
+            String script = String.format(RESTORE_STORAGE_JS, MAPPER.writeValueAsString(cached.origin()),
+                    MAPPER.writeValueAsString(cached.localStorage()),
+                    MAPPER.writeValueAsString(cached.sessionStorage()));
+
+            if (driver instanceof HasCdp cdp) {
+                cdp.executeCdpCommand("Network.setCookies", Map.of("cookies", cached.cookies()));
+                // El script carga el almacenamiento antes que los scripts de la aplicación; se retira tras usarlo
+                Object identifier = cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                        Map.of("source", script)).get("identifier");
+                try {
+                    driver.get(url);
+                } finally {
+                    cdp.executeCdpCommand("Page.removeScriptToEvaluateOnNewDocument",
+                            Map.of("identifier", identifier));
+                }
+            } else {
+                // Sin CDP, las cookies y el almacenamiento solo se pueden cargar estando en el mismo origen
+                driver.get(cached.origin());
+                for (Map<String, Object> cookie : cached.cookies()) {
+                    if (sameSite(cached.origin(), String.valueOf(cookie.get("domain")))) {
+                        driver.manage().addCookie(toCookie(cookie));
+                    }
+                }
+                ((JavascriptExecutor) driver).executeScript(script);
+                driver.get(url);
+            }
+            return true;
+        } catch (JsonProcessingException | WebDriverException e) {
+            Log.warn(LogInfo.LOG_SESSION_CACHE_RESTORE_ERROR + e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean validate(WebDriver driver, By authenticated) {
+        // Si el plazo de la prueba ya se agotó, la excepción se propaga en lugar de rechazar el estado
+        Duration timeout = TestContext.current().budget(Duration.ofSeconds(VALIDATION_TIME_OUT_SECONDS));
+        try {
+            AdaptiveWait.on(driver)
+                    .withTimeout(timeout)
+                    .until(ExpectedConditions.visibilityOfElementLocated(authenticated));
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Elimina las cookies restauradas para que el inicio de sesión por la interfaz parta desde cero.
+     */
+    private static void clear(WebDriver driver) {
+        if (driver instanceof HasCdp cdp) {
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+    }
+
+    private static Cookie toCookie(Map<String, Object> cookie) {
+        Object expires = cookie.get("expires");
+        return new Cookie.Builder(String.valueOf(cookie.get("name")), String.valueOf(cookie.get("value")))
+                .domain((String) cookie.get("domain"))
+                .path((String) cookie.get("path"))
+                .isSecure(Boolean.TRUE.equals(cookie.get("secure")))
+                .isHttpOnly(Boolean.TRUE.equals(cookie.get("httpOnly")))
+                .expiresOn(expires instanceof Number number ? new Date((long) (number.doubleValue() * 1000)) : null)
+                .build();
+    }
+
+    private static boolean sameSite(String origin, String domain) {
+        String host = URI.create(origin).getHost();
+        String bare = domain.startsWith(".") ? domain.substring(1) : domain;
+        return host.equals(bare) || host.endsWith("." + bare);
+    }
+
+    private static String origin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+    }
+}
@@ -28,6 +28,9 @@ public class Data {
     public static final String DATA_CLICK_JS = "arguments[0].click()";
     public static final String DATA_SCROLL_INTO_VIEW_JS = "arguments[0].scrollIntoView();";
     public static final String DATA_SCROLL_INTO_VIEW_TRUE_JS = "arguments[0].scrollIntoView(true);";
+    public static final String DATA_DOM_SNAPSHOT_JS = "const root = document.documentElement.cloneNode(true);"
+            + "root.querySelectorAll('script, noscript').forEach(node => node.remove());"
+            + "return '<!DOCTYPE html>\\n' + root.outerHTML;";
     public static final String DATA_ALLURE_EVIDENCE = "Evidencia ";
     public static final String DATA_ALLURE_BROKEN_LINK = "Broken link";
     public static final String DATA_ALLURE_NULL_LINK = "Null link";
@@ -49,6 +49,14 @@ public class LogInfo {
 	public static final String LOG_CLICK_WITH_JAVASCRIPT = "Haciendo click con Javascript sobre el elemento: ";
 	public static final String LOG_GET_JSON_DATA_FROM_FILE = "Obteniendo dato desde archivo JSON en ruta: ";
 	public static final String LOG_JSON_DATA_OBTAINED = "Dato conseguido: ";
+	public static final String LOG_CONFIGURATION_LOADED = "Configuración cargada en memoria desde: ";
+	public static final String LOG_CONFIGURATION_RELOADED = "Configuración recargada desde: ";
+	public static final String LOG_CONFIGURATION_RELOAD_ERROR =
+			"No se pudo recargar la configuración, se mantiene la versión vigente: ";
+	public static final String LOG_CONFIGURATION_INVALID = "El archivo de configuración no es un objeto JSON: ";
+	public static final String LOG_CONFIGURATION_WATCH = "Vigilando cambios en el archivo de configuración: ";
+	public static final String LOG_CONFIGURATION_WATCH_ERROR =
+			"No se pudo vigilar el archivo de configuración: ";
 	public static final String LOG_UPLOAD = "Realizando carga del archivo: ";
 	public static final String LOG_DOWNLOAD_START = "Iniciando descarga de archivo";
 	public static final String LOG_DOWNLOAD_FINISH = "Archivo descargado: ";
@@ -74,6 +82,8 @@ public class LogInfo {
 	public static final String LOG_LINK_VALIDATION_NULL_LIST = "Lista de los enlaces Nulos: ";
 	public static final String LOG_LINK_VALIDATION_SERVER_DOWN_LIST = "Lista de los enlaces caídos por servidor: ";
 	public static final String LOG_CHROME_CONFIGURATION = "Aplicando configuración al navegador Google Chrome";
+	public static final String LOG_CHROME_HEADLESS_SHELL_CONFIGURATION = "Configurando opciones personalizadas de chrome-headless-shell";
+	public static final String LOG_CHROME_HEADLESS_SHELL_NOT_FOUND = "No se encontró el binario de chrome-headless-shell (headlessShellBinary): ";
 	public static final String LOG_EDGE_CONFIGURATION = "Aplicando configuración al navegador Microsoft Edge";
 	public static final String LOG_FIREFOX_CONFIGURATION = "Aplicando configuración al navegador Mozilla Firefox";
 	public static final String LOG_SEPARATE = "--------------------------------------------------------------------";
@@ -82,6 +92,83 @@ public class LogInfo {
 	public static final String LOG_DYNAMIC_OPTION = "Se configura opción con id: ";
 	public static final String LOG_BEFORE_CLASS = "Iniciando configuración de navegador: ";
 	public static final String LOG_TEST_START = "Iniciando prueba: ";
+	public static final String LOG_RUT_POOL_ACQUIRED = "RUT asignado para impersonalización: ";
+	public static final String LOG_RUT_POOL_RELEASED = "RUT liberado: ";
+	public static final String LOG_RUT_POOL_WAITING = "Esperando la liberación de alguno de los RUT: ";
+	public static final String LOG_RUT_POOL_TIME_OUT = "No se pudo obtener ninguno de los RUT a tiempo: ";
+	public static final String LOG_RUT_POOL_EMPTY = "No se indicaron RUT candidatos para el préstamo.";
+	public static final String LOG_DRIVER_POOL_RECYCLED = "Sesión reemplazada por salud: ";
+	public static final String LOG_DRIVER_POOL_WARM_UP = "Sesiones de navegador iniciándose en el pool: ";
+	public static final String LOG_DRIVER_POOL_WARM_UP_ERROR = "No se pudo iniciar una sesión del pool, se crea una nueva: ";
+	public static final String LOG_DRIVER_POOL_BORROWED = "Sesión de navegador prestada desde el pool: ";
+	public static final String LOG_DRIVER_POOL_RETURNED = "Sesión de navegador devuelta al pool: ";
+	public static final String LOG_DRIVER_POOL_DISCARDED = "No se pudo limpiar la sesión, se descarta del pool: ";
+	public static final String LOG_DRIVER_POOL_TIME_OUT = "No se pudo obtener una sesión del pool a tiempo: ";
+	public static final String LOG_DRIVER_FACTORY_STARTED = "Navegador iniciado en segundo plano: ";
+	public static final String LOG_DRIVER_FACTORY_PRESTART = "Iniciando sesiones de navegador al comienzo de la suite: ";
+	public static final String LOG_DRIVER_FACTORY_UNKNOWN_BROWSER = "Tipo de navegador no soportado: ";
+	public static final String LOG_DRIVER_POOL_SUMMARY = "Resumen del pool de sesiones: ";
+	public static final String LOG_SESSION_CACHE_CAPTURED = "Inicio de sesión realizado y estado capturado en ";
+	public static final String LOG_SESSION_CACHE_RESTORED = "Estado de sesión restaurado sin iniciar sesión en ";
+	public static final String LOG_SESSION_CACHE_EXPIRED = "El estado de sesión capturado expiró, se inicia sesión nuevamente.";
+	public static final String LOG_SESSION_CACHE_REJECTED =
+			"El estado de sesión restaurado no fue aceptado, se inicia sesión nuevamente.";
+	public static final String LOG_SESSION_CACHE_RESTORE_ERROR = "No se pudo restaurar el estado de sesión: ";
+	public static final String LOG_SESSION_CACHE_LOGIN_FAILED = "No se confirmó el inicio de sesión en: ";
+	public static final String LOG_REMOTE_CONNECTION = "Realizando conexión con Selenium Grid mediante RemoteWebDriver: ";
+	public static final String LOG_GRID_WAITING = "Esperando un espacio libre en Selenium Grid para el navegador: ";
+	public static final String LOG_GRID_TIME_OUT = "No se obtuvo un espacio libre en Selenium Grid a tiempo para: ";
+	public static final String LOG_GRID_STATUS_ERROR = "No se pudo consultar el estado de Selenium Grid: ";
+	public static final String LOG_NETWORK_BLOCKING_RULES = "Reglas de bloqueo de red de la suite: ";
+	public static final String LOG_NETWORK_BLOCKING_ERROR = "No se pudo aplicar el bloqueo de red a la sesión: ";
+	public static final String LOG_NETWORK_SIZES_RULES = "Bloqueo de red desactivado, se mide el tamaño de las solicitudes: ";
+	public static final String LOG_NETWORK_SIZES_SAVED = "Historial de tamaños de solicitudes bloqueables guardado en: ";
+	public static final String LOG_NETWORK_SIZES_ERROR = "No se pudo leer o guardar el historial de tamaños de solicitudes: ";
+	public static final String LOG_NETWORK_IDLE_ERROR = "No se pudo registrar la actividad de red de la sesión: ";
+	public static final String LOG_NETWORK_IDLE_WAIT = "Esperando inactividad de red, ventana de silencio (ms): ";
+	public static final String LOG_NETWORK_IDLE_TIME_OUT = "La red no quedó inactiva a tiempo, solicitudes en curso: ";
+	public static final String LOG_APP_STABLE = "Aplicación inactiva según criterio: ";
+	public static final String LOG_APP_STABLE_TIME_OUT = "La aplicación no quedó inactiva a tiempo en: ";
+	public static final String LOG_TEST_BUDGET_EXHAUSTED = "Se agotó el plazo de la prueba: ";
+	public static final String LOG_PROFILE_TEMPLATE_BUILD = "Creando la plantilla de perfil de ";
+	public static final String LOG_PROFILE_TEMPLATE_READY = "Plantilla de perfil lista: ";
+	public static final String LOG_PROFILE_TEMPLATE_ERROR = "No se pudo crear la plantilla de perfil, se usará un perfil vacío: ";
+	public static final String LOG_PROFILE_TEMPLATE_OUTDATED = "La plantilla de perfil es de otra versión del navegador y se regenerará en la próxima ejecución: ";
+	public static final String LOG_PROFILE_TEMPLATE_DISCARDED = "Se descarta la plantilla de perfil desactualizada: ";
+	public static final String LOG_PROFILE_TEMPLATE_NOT_SETTLED = "El perfil de la plantilla no se estabilizó a tiempo, se guarda en su estado actual: ";
+	public static final String LOG_PROFILE_DELETE_ERROR = "No se pudo eliminar el perfil de la sesión: ";
+	public static final String LOG_PROFILE_BENCHMARK = "Inicio de sesión ";
+	public static final String LOG_CONCURRENCY_INITIAL = "Límite inicial de sesiones activas: ";
+	public static final String LOG_CONCURRENCY_LIMIT = "Límite de sesiones activas ajustado: ";
+	public static final String LOG_CONCURRENCY_ADMITTED = "Sesión admitida, activas: ";
+	public static final String LOG_CONCURRENCY_TIME_OUT = "No se obtuvo cupo para iniciar la sesión, límite actual: ";
+	public static final String LOG_CONCURRENCY_SUMMARY = "Control de concurrencia finalizado, límite máximo alcanzado: ";
+	public static final String LOG_ADAPTIVE_WAIT_TIME_OUT = "La condición no se cumplió a tiempo: ";
+	public static final String LOG_DOM_WAIT_FALLBACK = "No se pudo observar el DOM, se continúa sondeando: ";
+	public static final String LOG_TELEMETRY_REPORT = "Reporte de telemetría de localizadores: ";
+	public static final String LOG_TELEMETRY_REPORT_ERROR = "No se pudo generar el reporte de telemetría de localizadores: ";
+	public static final String LOG_TELEMETRY_ALLURE_NAME = "Telemetría de localizadores";
+	public static final String LOG_LEARNED_TIMEOUT = "Tiempo de espera aprendido: ";
+	public static final String LOG_LEARNED_TIMEOUT_RESET =
+			"Se agotó el tiempo de espera aprendido, se descarta el historial del localizador: ";
+	public static final String LOG_LEARNED_TIMEOUT_SAVED = "Historial de tiempos de espera guardado en: ";
+	public static final String LOG_LEARNED_TIMEOUT_ERROR = "No se pudo leer o guardar el historial de tiempos de espera: ";
+	public static final String LOG_ELEMENT_CACHE_STALE = "Referencia obsoleta, se vuelve a buscar el elemento: ";
+	public static final String LOG_DOM_SNAPSHOT_SAVED = "Captura del DOM guardada en: ";
+	public static final String LOG_DOM_SNAPSHOT_ERROR = "No se pudo guardar la captura del DOM: ";
+	public static final String LOG_LOCATOR_ANALYSIS = "Selector sugerido - ";
+	public static final String LOG_LOCATOR_ANALYSIS_NO_SNAPSHOTS = "No hay capturas del DOM para analizar en: ";
+	public static final String LOG_LOCATOR_ANALYSIS_REPORT = "Reporte de análisis de localizadores: ";
+	public static final String LOG_ELEMENT_STATES = "Consultando el estado de los elementos: ";
+	public static final String LOG_HEADLESS_BENCHMARK = "Comparación de modos headless - ";
+	public static final String LOG_RUT_BULK_START = "Iniciando generación masiva de RUT, cantidad: ";
+	public static final String LOG_RUT_BULK_FINISH = "RUT generados: ";
+	public static final String LOG_RUT_BULK_INVALID_RANGE = "Rango de RUT inválido: ";
+	public static final String LOG_RUT_BULK_INVALID_COUNT = "La cantidad solicitada supera los RUT disponibles en el rango: ";
+	public static final String LOG_RUT_BULK_INTERRUPTED = "Generación masiva de RUT interrumpida.";
+	public static final String LOG_RUT_VALIDATION_START = "Iniciando validación masiva de RUT desde: ";
+	public static final String LOG_RUT_VALIDATION_FINISH = "RUT validados: ";
+	public static final String LOG_RUT_VALIDATION_INVALID = "RUT inválido: ";
 
 	public static final String LOG_DOWNLOAD_ERROR_DYNAMIC_INTERRUPTION =
 			"Interrupción durante la espera dinámica de descarga: ";
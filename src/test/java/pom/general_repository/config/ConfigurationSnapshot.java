@@ -0,0 +1,181 @@
+package pom.general_repository.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import pom.general_repository.ExternalData;
+import pom.general_repository.LogInfo;
+import utils.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Representación inmutable y en memoria del archivo de configuración (config.json).
+ *
+ * <p>
+ * El archivo se lee y se analiza una única vez por JVM y por ruta; todas las consultas posteriores
+ * se resuelven contra la instancia cargada, por lo que la clase puede ser compartida sin sincronización
+ * adicional entre los hilos que ejecutan las pruebas en paralelo.
+ * </p>
+ *
+ * <p>
+ * Tras la primera carga se vigila el archivo con {@link ConfigurationWatcher}. Cuando cambia, se vuelve a
+ * analizar en segundo plano y la nueva instancia reemplaza a la anterior de forma atómica. Si el contenido
+ * no es un JSON válido (por ejemplo, porque aún se está escribiendo), se conserva la instancia vigente.
+ * Quien mantenga una referencia a una instancia sigue viendo valores consistentes entre sí.
+ * </p>
+ *
+ * <p>Ejemplo de uso:</p>
+ * <pre>
+ * {@code
+ * String url = ConfigurationSnapshot.current().webDriverConfiguration().urlTest();
+ * }
+ * </pre>
+ */
+public final class ConfigurationSnapshot {
+
+    /**
+     * Lector JSON compartido; es seguro entre hilos una vez configurado.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Instancias cargadas, indexadas por la ruta absoluta del archivo de origen.
+     */
+    private static final Map<String, ConfigurationSnapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private final JsonNode root;
+
+    /**
+     * Secciones tipadas, generadas por {@code utils.ConfigClassGenerator} a partir de config.json.
+     */
+    private final Configuration configuration;
+
+    private ConfigurationSnapshot(JsonNode root) {
+        this.root = root;
+        this.configuration = Configuration.from(root);
+    }
+
+    /**
+     * Retorna la configuración cargada desde la ruta por defecto {@link ExternalData#ED_SOURCE}.
+     *
+     * @return la instancia compartida de la configuración.
+     * @throws UncheckedIOException si el archivo no se puede leer o analizar.
+     */
+    public static ConfigurationSnapshot current() {
+        return of(ExternalData.ED_SOURCE);
+    }
+
+    /**
+     * Retorna la configuración cargada desde la ruta indicada, leyendo el archivo solo la primera vez.
+     *
+     * @param source ruta del archivo JSON de configuración.
+     * @return la instancia compartida de la configuración para dicha ruta.
+     * @throws UncheckedIOException si el archivo no se puede leer o analizar.
+     */
+    public static ConfigurationSnapshot of(String source) {
+        return SNAPSHOTS.computeIfAbsent(normalize(source), ConfigurationSnapshot::loadAndWatch);
+    }
+
+    private static ConfigurationSnapshot loadAndWatch(String source) {
+        try {
+            ConfigurationSnapshot snapshot = parse(Paths.get(source));
+            Log.info(LogInfo.LOG_CONFIGURATION_LOADED + source);
+            ConfigurationWatcher.watch(Paths.get(source), ConfigurationSnapshot::reload);
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Vuelve a analizar el archivo y reemplaza la instancia vigente solo si el contenido es válido.
+     *
+     * @param file ruta absoluta del archivo modificado.
+     */
+    private static void reload(Path file) {
+        try {
+            SNAPSHOTS.put(file.toString(), parse(file));
+            Log.info(LogInfo.LOG_CONFIGURATION_RELOADED + file);
+        } catch (IOException | RuntimeException e) {
+            Log.warn(LogInfo.LOG_CONFIGURATION_RELOAD_ERROR + file + " - " + e.getMessage());
+        }
+    }
+
+    private static ConfigurationSnapshot parse(Path file) throws IOException {
+        // Se lee el contenido completo antes de analizarlo para no trabajar sobre un flujo que cambia
+        byte[] content = Files.readAllBytes(file);
+        JsonNode root = MAPPER.readTree(content);
+        if (root == null || !root.isObject()) {
+            throw new IOException(LogInfo.LOG_CONFIGURATION_INVALID + file);
+        }
+        return new ConfigurationSnapshot(root);
+    }
+
+    private static String normalize(String source) {
+        Path path = Paths.get(source).toAbsolutePath().normalize();
+        return path.toString();
+    }
+
+    public Configuration configuration() {
+        return configuration;
+    }
+
+    public WebDriverConfiguration webDriverConfiguration() {
+        return configuration.webDriverConfiguration();
+    }
+
+    public Archivos archivos() {
+        return configuration.archivos();
+    }
+
+    public Credenciales credenciales() {
+        return configuration.credenciales();
+    }
+
+    public DatosContacto datosContacto() {
+        return configuration.datosContacto();
+    }
+
+    public Impersonalizacion impersonalizacion() {
+        return configuration.impersonalizacion();
+    }
+
+    /**
+     * Obtiene un valor de tipo String a partir de la clave del objeto y la clave del dato.
+     *
+     * @param object la clave del objeto que contiene el dato.
+     * @param data   la clave del dato.
+     * @return el valor como texto, o una cadena vacía si no existe.
+     */
+    public String getString(String object, String data) {
+        return root.path(object).path(data).asText();
+    }
+
+    /**
+     * Obtiene un valor de tipo boolean a partir de la clave del objeto y la clave del dato.
+     *
+     * @param object la clave del objeto que contiene el dato.
+     * @param data   la clave del dato.
+     * @return el valor como boolean, o false si no existe.
+     */
+    public boolean getBoolean(String object, String data) {
+        return root.path(object).path(data).asBoolean();
+    }
+
+    /**
+     * Obtiene un valor de tipo int a partir de la clave del objeto y la clave del dato.
+     *
+     * @param object la clave del objeto que contiene el dato.
+     * @param data   la clave del dato.
+     * @return el valor como int, o 0 si no existe.
+     */
+    public int getInt(String object, String data) {
+        return root.path(object).path(data).asInt();
+    }
+}
@@ -0,0 +1,142 @@
+package pom.general_repository.config;
+
+import pom.general_repository.LogInfo;
+import utils.Log;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Vigila un archivo de configuración mediante {@link WatchService} y notifica cuando su contenido cambia.
+ *
+ * <p>
+ * La vigilancia se realiza en un hilo daemon, por lo que no impide que la JVM finalice. Antes de notificar,
+ * el vigilante espera a que el tamaño y la fecha de modificación del archivo se mantengan estables durante
+ * {@link #QUIET_PERIOD_MILLIS} milisegundos, evitando procesar un archivo que aún se está escribiendo.
+ * </p>
+ */
+final class ConfigurationWatcher implements Runnable {
+
+    /**
+     * Tiempo en milisegundos que el archivo debe permanecer sin cambios antes de recargarse.
+     */
+    static final long QUIET_PERIOD_MILLIS = 250L;
+
+    private final Path file;
+    private final Consumer<Path> onChange;
+    private final WatchService watchService;
+    private String notifiedFingerprint;
+
+    private ConfigurationWatcher(Path file, Consumer<Path> onChange) throws IOException {
+        this.file = file;
+        this.onChange = onChange;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.notifiedFingerprint = fingerprint();
+        // Se vigila el directorio para detectar también los reemplazos atómicos (escritura + renombrado)
+        file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /**
+     * Inicia la vigilancia del archivo indicado en un hilo daemon.
+     *
+     * @param file     ruta absoluta del archivo a vigilar.
+     * @param onChange acción a ejecutar, en el hilo del vigilante, cuando el archivo cambia.
+     */
+    static void watch(Path file, Consumer<Path> onChange) {
+        try {
+            Thread thread = new Thread(new ConfigurationWatcher(file, onChange),
+                    "config-watcher-" + file.getFileName());
+            thread.setDaemon(true);
+            thread.start();
+            Log.info(LogInfo.LOG_CONFIGURATION_WATCH + file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Log.warn(LogInfo.LOG_CONFIGURATION_WATCH_ERROR + file + " - " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void run() {
+        try (WatchService service = watchService) {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = service.take();
+                boolean changed = false;
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || file.getFileName().equals(event.context())) {
+                        changed = true;
+                    }
+                }
+
+                if (changed) {
+                    String stable = awaitStable();
+                    // Un mismo guardado puede generar varios eventos; solo se notifica una vez por versión
+                    if (stable != null && !stable.equals(notifiedFingerprint)) {
+                        notifiedFingerprint = stable;
+                        onChange.accept(file);
+                    }
+                }
+
+                if (!key.reset()) {
+                    Log.warn(LogInfo.LOG_CONFIGURATION_WATCH_ERROR + file);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException | IOException e) {
+            Log.warn(LogInfo.LOG_CONFIGURATION_WATCH_ERROR + file + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Espera a que el archivo deje de cambiar, descartando los eventos que lleguen mientras tanto.
+     *
+     * @return la huella (tamaño y fecha de modificación) del archivo estable, o null si desapareció.
+     */
+    private String awaitStable() throws InterruptedException {
+        String previous = fingerprint();
+        while (true) {
+            TimeUnit.MILLISECONDS.sleep(QUIET_PERIOD_MILLIS);
+            drainPendingEvents();
+            String current = fingerprint();
+            if (current == null) {
+                return null;
+            }
+            if (Objects.equals(previous, current)) {
+                return current;
+            }
+            previous = current;
+        }
+    }
+
+    private void drainPendingEvents() {
+        WatchKey pending;
+        while ((pending = watchService.poll()) != null) {
+            pending.pollEvents();
+            pending.reset();
+        }
+    }
+
+    private String fingerprint() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package pom.wait;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Wait;
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.general_repository.config.WebDriverConfiguration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Espera explícita con intervalo de sondeo creciente.
+ *
+ * <p>
+ * Una espera con intervalo fijo cobra, en promedio, la mitad del intervalo aunque la condición se cumpla de
+ * inmediato: con {@code FluentWait} cada 5 segundos, un elemento que aparece a los 200 ms se detecta recién a
+ * los 5 segundos. Esta espera evalúa la condición de inmediato, luego cada pocos milisegundos, y multiplica el
+ * intervalo por un factor en cada intento hasta un máximo, de modo que las condiciones que se cumplen pronto se
+ * detectan casi al instante y las lentas no saturan al navegador con consultas.
+ * </p>
+ *
+ * <p>
+ * Implementa {@link Wait}, por lo que acepta cualquier condición: las de {@code ExpectedConditions} o una función
+ * propia sobre el objeto esperado (el driver, un directorio, etc.). Igual que {@code FluentWait}, la condición se
+ * cumple cuando retorna un valor distinto de null y de {@code false}. Los valores por defecto se leen de "waits"
+ * en config.json.
+ * </p>
+ *
+ * <p>Ejemplo de uso:</p>
+ * <pre>
+ * {@code
+ * WebElement element = AdaptiveWait.on(driver)
+ *         .withTimeout(Duration.ofSeconds(30))
+ *         .ignoring(NoSuchElementException.class)
+ *         .until(ExpectedConditions.visibilityOfElementLocated(locator));
+ * }
+ * </pre>
+ *
+ * @param <T> tipo del objeto que recibe la condición.
+ */
+public final class AdaptiveWait<T> implements Wait<T> {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final T input;
+    private final List<Class<? extends Throwable>> ignored = new ArrayList<>();
+    private Duration timeout = DEFAULT_TIMEOUT;
+    private Duration initialInterval;
+    private Duration maxInterval;
+    private double factor;
+    private String message;
+
+    /**
+     * Crea una espera sobre el objeto indicado con el intervalo inicial, el factor y el intervalo máximo dados.
+     *
+     * @param input           objeto que recibe la condición.
+     * @param initialInterval intervalo entre la primera y la segunda evaluación.
+     * @param factor          factor por el que se multiplica el intervalo en cada intento (1 o más).
+     * @param maxInterval     intervalo máximo entre evaluaciones.
+     */
+    public AdaptiveWait(T input, Duration initialInterval, double factor, Duration maxInterval) {
+        this.input = input;
+        backoff(initialInterval, factor, maxInterval);
+    }
+
+    /**
+     * Crea una espera sobre el objeto indicado con los valores de "waits" en config.json.
+     *
+     * @param input objeto que recibe la condición, por ejemplo el driver.
+     * @param <T>   tipo del objeto.
+     * @return la espera, con un tiempo máximo de 30 segundos.
+     */
+    public static <T> AdaptiveWait<T> on(T input) {
+        WebDriverConfiguration.Waits waits = ConfigurationSnapshot.current().webDriverConfiguration().waits();
+        return new AdaptiveWait<>(input, Duration.ofMillis(waits.initialPollMillis()), waits.backoffFactor(),
+                Duration.ofMillis(waits.maxPollMillis()));
+    }
+
+    public AdaptiveWait<T> withTimeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Cambia la progresión del intervalo de sondeo.
+     *
+     * @param initialInterval intervalo entre la primera y la segunda evaluación.
+     * @param factor          factor por el que se multiplica el intervalo en cada intento (1 o más).
+     * @param maxInterval     intervalo máximo entre evaluaciones.
+     * @return esta espera.
+     */
+    public AdaptiveWait<T> backoff(Duration initialInterval, double factor, Duration maxInterval) {
+        this.initialInterval = initialInterval.isNegative() || initialInterval.isZero()
+                ? Duration.ofMillis(1) : initialInterval;
+        this.factor = Math.max(1.0, factor);
+        this.maxInterval = maxInterval.compareTo(this.initialInterval) < 0 ? this.initialInterval : maxInterval;
+        return this;
+    }
+
+    /**
+     * Indica excepciones que, lanzadas por la condición, se consideran como "aún no se cumple".
+     *
+     * @param types tipos de excepción a ignorar.
+     * @return esta espera.
+     */
+    @SafeVarargs
+    public final AdaptiveWait<T> ignoring(Class<? extends Throwable>... types) {
+        ignored.addAll(List.of(types));
+        return this;
+    }
+
+    /**
+     * Agrega un texto al mensaje de la excepción lanzada si la condición no se cumple a tiempo.
+     *
+     * @param message texto descriptivo de lo que se esperaba.
+     * @return esta espera.
+     */
+    public AdaptiveWait<T> withMessage(String message) {
+        this.message = message;
+        return this;
+    }
+
+    /**
+     * Evalúa la condición hasta que se cumpla o se agote el tiempo máximo.
+     *
+     * @param condition la condición a esperar.
+     * @param <V>       tipo del valor que retorna la condición.
+     * @return el valor de la condición cuando se cumple.
+     * @throws TimeoutException   si la condición no se cumple a tiempo; su causa es la última excepción ignorada.
+     * @throws WebDriverException si el hilo es interrumpido durante la espera.
+     */
+    @Override
+    public <V> V until(Function<? super T, V> condition) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long interval = initialInterval.toNanos();
+        long maxIntervalNanos = maxInterval.toNanos();
+        int attempts = 0;
+        Throwable lastError = null;
+
+        try {
+            while (true) {
+                attempts++;
+                try {
+                    V value = condition.apply(input);
+                    if (value != null && !Boolean.FALSE.equals(value)) {
+                        return value;
+                    }
+                    lastError = null;
+                } catch (Throwable e) {
+                    lastError = propagateIfNotIgnored(e);
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException(LogInfo.LOG_ADAPTIVE_WAIT_TIME_OUT
+                            + (message != null ? message + " - " : "") + condition + " ("
+                            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms, " + attempts
+                            + " intentos)", lastError);
+                }
+
+                try {
+                    TimeUnit.NANOSECONDS.sleep(Math.min(interval, remaining));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new WebDriverException(e);
+                }
+                interval = Math.min(maxIntervalNanos, (long) (interval * factor));
+            }
+        } finally {
+            LocatorTelemetry.attempts(attempts);
+        }
+    }
+
+    private Throwable propagateIfNotIgnored(Throwable e) {
+        for (Class<? extends Throwable> type : ignored) {
+            if (type.isInstance(e)) return e;
+        }
+        if (e instanceof RuntimeException runtime) throw runtime;
+        if (e instanceof Error error) throw error;
+        throw new WebDriverException(e);
+    }
+}
@@ -0,0 +1,96 @@
+package pom.wait;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import utils.Log;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Espera a que una aplicación de una sola página (SPA) quede inactiva después de una acción.
+ *
+ * <p>
+ * Un clic en un enlace de Angular no recarga la página: cambia la ruta y la aplicación carga sus datos y dibuja
+ * la vista en segundo plano, por lo que {@code driver.get} o {@code document.readyState} no indican cuándo
+ * termina. Esta espera inyecta un script asíncrono que, dentro del navegador y sin consultas al driver, considera
+ * la aplicación inactiva cuando:
+ * </p>
+ * <ul>
+ *   <li>todas las instancias de Angular informan {@code isStable()} mediante la API de testabilidad
+ *   ({@code getAllAngularTestabilities}), es decir, su zona no tiene tareas ni solicitudes pendientes; y</li>
+ *   <li>no se han agregado ni quitado nodos del DOM durante la ventana de silencio indicada. Un cambio de URL o de
+ *   ruta reinicia la ventana.</li>
+ * </ul>
+ * <p>
+ * Solo se observan nodos agregados o quitados ({@code childList} y {@code subtree}): los cambios de atributos
+ * como {@code class} o {@code style} (animaciones, indicadores de carga, efectos de foco) y de texto ocurren
+ * continuamente en muchas vistas ya listas e impedirían que la ventana de silencio se cumpla. Un indicador de
+ * carga que desaparece sí se detecta, porque se quita del DOM.
+ * </p>
+ * <p>
+ * En páginas sin Angular solo se aplica la ventana de silencio del DOM. Si la acción provoca una navegación
+ * completa, el script se vuelve a inyectar en el documento nuevo.
+ * </p>
+ */
+public final class AppStability {
+
+    private static final String DOCUMENT_UNLOADED = "unloaded";
+
+    private static final String STABLE_SCRIPT = """
+            const [quiet, timeout, done] = arguments;
+            const start = Date.now();
+            let last = start, url = location.href;
+            const testabilities = () => window.getAllAngularTestabilities ? window.getAllAngularTestabilities() : [];
+            const observer = new MutationObserver(() => { last = Date.now(); });
+            observer.observe(document, {childList: true, subtree: true});
+            const ticker = setInterval(() => {
+              const now = Date.now();
+              const angular = testabilities();
+              if (location.href !== url) {
+                url = location.href;
+                last = now;
+              } else if (document.readyState === 'loading' || angular.some(t => !t.isStable())) {
+                last = now;
+              }
+              if (now - last >= quiet || now - start >= timeout) {
+                observer.disconnect();
+                clearInterval(ticker);
+                done(now - last >= quiet ? (angular.length > 0 ? 'angular' : 'dom') : null);
+              }
+            }, 50);
+            """;
+
+    private AppStability() {
+    }
+
+    /**
+     * Espera a que la aplicación quede inactiva.
+     *
+     * @param driver  el driver de la prueba.
+     * @param quiet   tiempo sin nodos agregados o quitados ni tareas pendientes de Angular que se considera
+     *                inactividad.
+     * @param timeout el tiempo máximo de espera.
+     * @return "angular" o "dom" según el criterio aplicado, o null si la aplicación no quedó inactiva a tiempo.
+     */
+    public static String await(WebDriver driver, Duration quiet, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        ScriptTimeout.cover(driver, timeout);
+        while (true) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) return null;
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(STABLE_SCRIPT, quiet.toMillis(),
+                        remaining);
+                return result == null ? null : result.toString();
+            } catch (JavascriptException e) {
+                // Si el documento se reemplazó durante la espera (navegación completa), se observa el nuevo
+                if (!String.valueOf(e.getMessage()).toLowerCase().contains(DOCUMENT_UNLOADED)) {
+                    Log.warn(e.getMessage());
+                    return null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package pom.wait;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import utils.Log;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Espera de elementos guiada por eventos del DOM.
+ *
+ * <p>
+ * Cada intento de una espera por sondeo es una consulta HTTP al driver. Esta espera inyecta con
+ * {@code executeAsyncScript} un {@code MutationObserver} que busca el elemento cada vez que el DOM cambia y
+ * responde apenas el elemento está presente, visible o clicable, de modo que la prueba queda bloqueada en un solo
+ * comando. Como las animaciones CSS no generan mutaciones, el script además revisa el elemento cada 250 ms dentro
+ * del navegador.
+ * </p>
+ *
+ * <p>
+ * El script retorna el elemento, y para los estados visible y clicable se confirma con una sola consulta a
+ * {@link WebElement#isDisplayed()}, de modo que el resultado coincide con el de la espera por sondeo. Si el
+ * script agota su tiempo, la espera falla sin más consultas. Solo si el script no puede inyectarse (el driver no
+ * ejecuta JavaScript, el localizador no se puede traducir o la página navega durante la espera) o la confirmación
+ * no coincide, se continúa sondeando con {@link AdaptiveWait} por el tiempo restante. El tiempo máximo de scripts
+ * del driver se fija una vez por sesión (ver {@link ScriptTimeout}).
+ * </p>
+ */
+public final class DomWait {
+
+    /**
+     * Funciones comunes de los scripts de elementos: {@code find(using, value)} retorna el primer elemento de un
+     * localizador traducido con {@link By.Remotable#getRemoteParameters()}, o null, y {@code visible(el)} aproxima
+     * {@link WebElement#isDisplayed()} con el estilo calculado y las cajas del elemento.
+     */
+    static final String ELEMENT_FUNCTIONS = """
+            const first = list => list[0] || null;
+            const find = (using, value) => {
+              switch (using) {
+                case 'id': return document.getElementById(value);
+                case 'name': return first(document.getElementsByName(value));
+                case 'class name': return first(document.getElementsByClassName(value));
+                case 'tag name': return first(document.getElementsByTagName(value));
+                case 'css selector': return document.querySelector(value);
+                case 'xpath': return document.evaluate(value, document, null,
+                    XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                case 'link text': return [...document.links].find(a => a.innerText.trim() === value) || null;
+                case 'partial link text': return [...document.links].find(a => a.innerText.includes(value)) || null;
+                default: return null;
+              }
+            };
+            const visible = el => {
+              const style = getComputedStyle(el);
+              return style.visibility !== 'hidden' && style.display !== 'none' && style.opacity !== '0'
+                  && el.getClientRects().length > 0;
+            };
+            """;
+
+    private static final String OBSERVER_SCRIPT = ELEMENT_FUNCTIONS + """
+            const [using, value, state, timeout, done] = arguments;
+            const ready = el => el !== null && (state === 'PRESENT'
+                || (visible(el) && (state === 'VISIBLE' || !el.disabled)));
+            let finished = false, observer, ticker, timer;
+            const finish = result => {
+              if (finished) return;
+              finished = true;
+              if (observer) observer.disconnect();
+              clearInterval(ticker);
+              clearTimeout(timer);
+              done(result);
+            };
+            const check = () => {
+              try {
+                const el = find(using, value);
+                if (ready(el)) finish(el);
+              } catch (e) {
+                finish(String(e.message || e));
+              }
+            };
+            check();
+            if (!finished) {
+              observer = new MutationObserver(check);
+              observer.observe(document, {childList: true, subtree: true, attributes: true});
+              ticker = setInterval(check, 250);
+              timer = setTimeout(() => finish(null), timeout);
+            }
+            """;
+
+    private DomWait() {
+    }
+
+    /**
+     * Estado del elemento que se espera.
+     */
+    public enum State {
+        PRESENT, VISIBLE, CLICKABLE;
+
+        /**
+         * Retorna la condición de sondeo equivalente.
+         *
+         * @param locator el localizador del elemento.
+         * @return la condición de {@link ExpectedConditions}.
+         */
+        public ExpectedCondition<WebElement> condition(By locator) {
+            return switch (this) {
+                case PRESENT -> ExpectedConditions.presenceOfElementLocated(locator);
+                case VISIBLE -> ExpectedConditions.visibilityOfElementLocated(locator);
+                case CLICKABLE -> ExpectedConditions.elementToBeClickable(locator);
+            };
+        }
+    }
+
+    /**
+     * Indica si las esperas de elementos deben usar el {@code MutationObserver} antes de sondear.
+     *
+     * @return el valor de "waits.domObserver" en config.json.
+     */
+    public static boolean enabled() {
+        return ConfigurationSnapshot.current().webDriverConfiguration().waits().domObserver();
+    }
+
+    /**
+     * Espera a que el elemento alcance el estado indicado, observando el DOM y sondeando si no es posible.
+     *
+     * @param driver  el driver de la prueba.
+     * @param locator el localizador del elemento.
+     * @param state   el estado esperado.
+     * @param timeout el tiempo máximo de espera.
+     * @return el elemento.
+     * @throws TimeoutException si el elemento no alcanza el estado a tiempo.
+     */
+    public static WebElement until(WebDriver driver, By locator, State state, Duration timeout) {
+        long start = System.nanoTime();
+        if (driver instanceof JavascriptExecutor executor && locator instanceof By.Remotable remotable) {
+            try {
+                ScriptTimeout.cover(driver, timeout);
+                By.Remotable.Parameters query = remotable.getRemoteParameters();
+                Object result = executor.executeAsyncScript(OBSERVER_SCRIPT, query.using(),
+                        String.valueOf(query.value()), state.name(), timeout.toMillis());
+                if (result == null) {
+                    throw new TimeoutException(LogInfo.LOG_ADAPTIVE_WAIT_TIME_OUT + state.condition(locator) + " ("
+                            + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms)");
+                }
+                if (result instanceof WebElement element && confirm(element, state)) {
+                    return element;
+                }
+                if (!(result instanceof WebElement)) Log.warn(LogInfo.LOG_DOM_WAIT_FALLBACK + result);
+            } catch (StaleElementReferenceException e) {
+                // El elemento cambió entre la respuesta del script y la confirmación; se sondea
+            } catch (TimeoutException e) {
+                throw e;
+            } catch (WebDriverException e) {
+                String reason = String.valueOf(e.getMessage()).lines().findFirst().orElse("");
+                Log.warn(LogInfo.LOG_DOM_WAIT_FALLBACK + reason);
+            }
+        }
+        return AdaptiveWait.on(driver)
+                .withTimeout(timeout.minusNanos(System.nanoTime() - start))
+                .ignoring(NoSuchElementException.class, StaleElementReferenceException.class)
+                .until(state.condition(locator));
+    }
+
+    /**
+     * Confirma con el driver la visibilidad que calculó el script; la presencia no requiere confirmación y la
+     * habilitación ya la verificó el script.
+     */
+    private static boolean confirm(WebElement element, State state) {
+        return state == State.PRESENT || element.isDisplayed();
+    }
+}
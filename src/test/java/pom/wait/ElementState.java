@@ -0,0 +1,112 @@
+package pom.wait;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estado de un elemento en un instante: si existe, si es visible, si está habilitado, su texto y su posición.
+ *
+ * <p>
+ * Consultar estos datos con {@link WebElement} cuesta una consulta al driver por dato y por elemento, además de la
+ * búsqueda. {@link #of(WebDriver, Collection)} obtiene el estado de todos los localizadores con un solo
+ * {@code executeScript}: el script busca el primer elemento de cada localizador, como {@code findElement}, y lee
+ * sus datos dentro del navegador. La visibilidad se calcula igual que en {@link DomWait} y el texto es el
+ * {@code innerText} del elemento, por lo que pueden diferir en casos límite de {@link WebElement#isDisplayed()} y
+ * {@link WebElement#getText()}. Los localizadores que no se pueden traducir a una búsqueda del navegador (por
+ * ejemplo, {@code ByChained}) se consultan con el driver.
+ * </p>
+ *
+ * @param present   true si el localizador encuentra un elemento.
+ * @param displayed true si el elemento es visible.
+ * @param enabled   true si el elemento no está deshabilitado, propio o por un {@code fieldset}.
+ * @param text      texto visible del elemento, sin espacios al inicio ni al final; vacío si no existe.
+ * @param rect      posición y tamaño del elemento en la página, o null si no existe.
+ */
+public record ElementState(boolean present, boolean displayed, boolean enabled, String text, Rectangle rect) {
+
+    /**
+     * Estado de un localizador que no encuentra ningún elemento.
+     */
+    public static final ElementState ABSENT = new ElementState(false, false, false, "", null);
+
+    private static final String STATES_SCRIPT = DomWait.ELEMENT_FUNCTIONS + """
+            return arguments[0].map(([using, value]) => {
+              const el = find(using, value);
+              if (el === null || el.nodeType !== Node.ELEMENT_NODE) return null;
+              const box = el.getBoundingClientRect();
+              return {
+                displayed: visible(el),
+                enabled: !el.matches(':disabled'),
+                text: (el.innerText || '').trim(),
+                x: Math.round(box.left + window.scrollX),
+                y: Math.round(box.top + window.scrollY),
+                width: Math.round(box.width),
+                height: Math.round(box.height)
+              };
+            });
+            """;
+
+    /**
+     * Obtiene el estado de varios localizadores con una sola consulta al navegador.
+     *
+     * @param driver   el driver de la prueba.
+     * @param locators los localizadores.
+     * @return el estado de cada localizador, en el orden recibido; {@link #ABSENT} si no encuentra el elemento.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<By, ElementState> of(WebDriver driver, Collection<By> locators) {
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        List<By> remotable = new ArrayList<>();
+        List<List<String>> queries = new ArrayList<>();
+        for (By locator : locators) {
+            if (locator instanceof By.Remotable query) {
+                By.Remotable.Parameters parameters = query.getRemoteParameters();
+                remotable.add(locator);
+                queries.add(List.of(parameters.using(), String.valueOf(parameters.value())));
+            }
+            states.put(locator, null);
+        }
+
+        if (!queries.isEmpty()) {
+            List<Map<String, Object>> results = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                    .executeScript(STATES_SCRIPT, queries);
+            for (int i = 0; i < remotable.size(); i++) {
+                states.put(remotable.get(i), from(results.get(i)));
+            }
+        }
+        states.replaceAll((locator, state) -> state != null ? state : query(driver, locator));
+        return states;
+    }
+
+    private static ElementState from(Map<String, Object> result) {
+        if (result == null) return ABSENT;
+        return new ElementState(true, Boolean.TRUE.equals(result.get("displayed")),
+                Boolean.TRUE.equals(result.get("enabled")), String.valueOf(result.get("text")),
+                new Rectangle(number(result, "x"), number(result, "y"), number(result, "height"),
+                        number(result, "width")));
+    }
+
+    private static int number(Map<String, Object> result, String key) {
+        return ((Number) result.get(key)).intValue();
+    }
+
+    /**
+     * Consulta el estado con el driver, para los localizadores que el script no puede resolver.
+     */
+    private static ElementState query(WebDriver driver, By locator) {
+        List<WebElement> found = driver.findElements(locator);
+        if (found.isEmpty()) return ABSENT;
+        WebElement element = found.get(0);
+        return new ElementState(true, element.isDisplayed(), element.isEnabled(), element.getText().trim(),
+                element.getRect());
+    }
+}
@@ -0,0 +1,233 @@
+package pom.wait;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openqa.selenium.By;
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.general_repository.config.WebDriverConfiguration;
+import utils.Log;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Tiempos máximos de espera aprendidos por localizador a partir de las duraciones de ejecuciones anteriores.
+ *
+ * <p>
+ * Un tiempo fijo igual para todos los elementos es excesivo para los que aparecen en milisegundos (una falla real
+ * tarda 30 segundos en reportarse) y a veces insuficiente para los que dependen de un servicio lento. Cada espera
+ * exitosa de {@link pom.Base} registra su duración por localizador, y el historial, limitado a las últimas
+ * "maxSamples" duraciones, se guarda en "waits.learned.history" al finalizar la suite. Con al menos "minSamples"
+ * duraciones, el tiempo máximo del localizador es el percentil indicado multiplicado por "margin", acotado entre
+ * "minSeconds" y "maxSeconds"; con menos, se usa el tiempo por defecto de la espera. Como solo se conservan las
+ * duraciones recientes, el tiempo se ajusta al ambiente en que se ejecuta.
+ * </p>
+ *
+ * <p>
+ * Si una espera agota un tiempo aprendido, el historial del localizador se descarta y la siguiente ejecución vuelve
+ * al tiempo por defecto hasta aprenderlo de nuevo. El archivo "waits.learned.overrides" fija manualmente el tiempo
+ * de un localizador, en segundos, con el texto del localizador como clave (el mismo de los logs, por ejemplo
+ * {@code "By.id: uname": 45}).
+ * </p>
+ *
+ * <p>Ejemplo de uso:</p>
+ * <pre>
+ * {@code
+ * Duration timeout = LearnedTimeouts.shared().timeout(locator, Duration.ofSeconds(30));
+ * }
+ * </pre>
+ */
+public final class LearnedTimeouts {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final TypeReference<Map<String, List<Long>>> HISTORY_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, Long>> OVERRIDES_TYPE = new TypeReference<>() {
+    };
+
+    private static final LearnedTimeouts SHARED = new LearnedTimeouts(
+            () -> ConfigurationSnapshot.current().webDriverConfiguration().waits().learned());
+
+    private final Supplier<WebDriverConfiguration.Waits.Learned> configuration;
+
+    /**
+     * Duraciones recientes, en milisegundos, por texto del localizador.
+     */
+    private final Map<String, Deque<Long>> history = new ConcurrentHashMap<>();
+    private final Map<String, Long> overrides = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+    private volatile boolean modified;
+
+    /**
+     * Crea un registro con la configuración indicada; usado por las pruebas con archivos temporales.
+     *
+     * @param configuration entrega la sección "waits.learned" vigente.
+     */
+    LearnedTimeouts(Supplier<WebDriverConfiguration.Waits.Learned> configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Retorna el registro de la JVM, configurado con la sección "waits.learned" de config.json.
+     *
+     * @return la instancia compartida.
+     */
+    public static LearnedTimeouts shared() {
+        return SHARED;
+    }
+
+    private WebDriverConfiguration.Waits.Learned configuration() {
+        return configuration.get();
+    }
+
+    /**
+     * Indica si los tiempos de espera se deben aprender del historial.
+     *
+     * @return el valor de "waits.learned.enabled".
+     */
+    public boolean enabled() {
+        return configuration().enabled();
+    }
+
+    /**
+     * Retorna el tiempo máximo de espera de un localizador.
+     *
+     * @param locator  el localizador.
+     * @param fallback el tiempo por defecto de la espera, usado si no hay historial suficiente.
+     * @return el tiempo indicado manualmente, el aprendido o el tiempo por defecto, en ese orden.
+     */
+    public Duration timeout(By locator, Duration fallback) {
+        if (!enabled()) return fallback;
+        load();
+        String key = locator.toString();
+        Long override = overrides.get(key);
+        if (override != null) return Duration.ofSeconds(override);
+
+        Duration learned = learned(key);
+        if (learned == null) return fallback;
+        Log.debug(LogInfo.LOG_LEARNED_TIMEOUT + learned.toMillis() + " ms - " + key);
+        return learned;
+    }
+
+    /**
+     * Registra la duración de una espera exitosa.
+     *
+     * @param locator el localizador.
+     * @param elapsed el tiempo que tardó el elemento en alcanzar el estado esperado.
+     */
+    public void succeeded(By locator, Duration elapsed) {
+        if (!enabled()) return;
+        load();
+        int maxSamples = Math.max(1, configuration().maxSamples());
+        Deque<Long> samples = history.computeIfAbsent(locator.toString(), key -> new ArrayDeque<>());
+        synchronized (samples) {
+            samples.addLast(elapsed.toMillis());
+            while (samples.size() > maxSamples) samples.removeFirst();
+        }
+        modified = true;
+    }
+
+    /**
+     * Registra una espera que agotó su tiempo. Si el límite usado era el tiempo aprendido, el historial del
+     * localizador se descarta para no volver a fallar por un tiempo demasiado corto.
+     *
+     * @param locator el localizador.
+     * @param limit   el tiempo máximo con el que se esperó, después de aplicar el plazo de la prueba.
+     */
+    public void timedOut(By locator, Duration limit) {
+        if (!enabled()) return;
+        load();
+        String key = locator.toString();
+        Duration learned = learned(key);
+        if (overrides.containsKey(key) || learned == null || limit.compareTo(learned) < 0) return;
+        history.remove(key);
+        modified = true;
+        Log.warn(LogInfo.LOG_LEARNED_TIMEOUT_RESET + key);
+    }
+
+    /**
+     * Guarda el historial en "waits.learned.history" si cambió desde la última vez.
+     */
+    public synchronized void save() {
+        if (!modified || !enabled()) return;
+        Map<String, List<Long>> snapshot = new TreeMap<>();
+        history.forEach((key, samples) -> {
+            synchronized (samples) {
+                snapshot.put(key, List.copyOf(samples));
+            }
+        });
+        try {
+            Path path = Paths.get(configuration().history());
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            // Se escribe en un archivo temporal y se reemplaza, para no dejar el historial a medio escribir
+            Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            MAPPER.writeValue(temporary.toFile(), snapshot);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            modified = false;
+            Log.info(LogInfo.LOG_LEARNED_TIMEOUT_SAVED + path.toAbsolutePath());
+        } catch (IOException e) {
+            Log.warn(LogInfo.LOG_LEARNED_TIMEOUT_ERROR + e.getMessage());
+        }
+    }
+
+    /**
+     * Calcula el tiempo aprendido, o null si el localizador tiene menos de "minSamples" duraciones.
+     */
+    private Duration learned(String key) {
+        Deque<Long> samples = history.get(key);
+        if (samples == null) return null;
+        long[] sorted;
+        synchronized (samples) {
+            sorted = samples.stream().mapToLong(Long::longValue).toArray();
+        }
+        WebDriverConfiguration.Waits.Learned configuration = configuration();
+        if (sorted.length == 0 || sorted.length < configuration.minSamples()) return null;
+
+        Arrays.sort(sorted);
+        double percentile = Math.min(100, Math.max(0, configuration.percentile()));
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        long millis = Math.round(sorted[Math.max(0, rank)] * configuration.margin());
+        millis = Math.max(millis, configuration.minSeconds() * 1000L);
+        millis = Math.min(millis, configuration.maxSeconds() * 1000L);
+        return Duration.ofMillis(millis);
+    }
+
+    /**
+     * Lee el historial y los tiempos manuales la primera vez que se consultan.
+     */
+    private void load() {
+        if (loaded) return;
+        synchronized (this) {
+            if (loaded) return;
+            WebDriverConfiguration.Waits.Learned configuration = configuration();
+            read(configuration.history(), HISTORY_TYPE).forEach(
+                    (key, samples) -> history.put(key, new ArrayDeque<>(samples)));
+            overrides.putAll(read(configuration.overrides(), OVERRIDES_TYPE));
+            loaded = true;
+        }
+    }
+
+    private static <T extends Map<String, ?>> T read(String file, TypeReference<T> type) {
+        Path path = Paths.get(file);
+        try {
+            if (!file.isBlank() && Files.isRegularFile(path)) return MAPPER.readValue(path.toFile(), type);
+        } catch (IOException e) {
+            Log.warn(LogInfo.LOG_LEARNED_TIMEOUT_ERROR + e.getMessage());
+        }
+        return MAPPER.convertValue(Map.of(), type);
+    }
+}
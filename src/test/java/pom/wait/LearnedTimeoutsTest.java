@@ -0,0 +1,149 @@
+package pom.wait;
+
+import org.openqa.selenium.By;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import pom.general_repository.config.WebDriverConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+/**
+ * Pruebas del cálculo del tiempo aprendido (percentil, margen y límites), del descarte del historial al agotarse
+ * el tiempo y de la precedencia de los tiempos manuales en {@link LearnedTimeouts}, con archivos temporales.
+ */
+public class LearnedTimeoutsTest {
+
+    private static final By LOCATOR = By.id("uname");
+    private static final Duration FALLBACK = Duration.ofSeconds(30);
+
+    private Path directory;
+    private Path history;
+    private Path overrides;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("learned-timeouts");
+        history = directory.resolve("wait-history.json");
+        overrides = directory.resolve("wait-overrides.json");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    public void usesTheRankOfThePercentile() {
+        LearnedTimeouts timeouts = timeouts(90, 1.0, 5, 0, 600);
+        record(timeouts, 1000, 2000, 3000, 4000, 5000, 6000, 7000, 8000, 9000, 10000);
+
+        // ceil(0,9 * 10) = 9: la novena duración ordenada
+        assertEquals(timeouts.timeout(LOCATOR, FALLBACK), Duration.ofMillis(9000));
+    }
+
+    @Test
+    public void multipliesThePercentileByTheMargin() {
+        LearnedTimeouts timeouts = timeouts(90, 1.5, 5, 0, 600);
+        record(timeouts, 1000, 2000, 3000, 4000, 5000, 6000, 7000, 8000, 9000, 10000);
+
+        assertEquals(timeouts.timeout(LOCATOR, FALLBACK), Duration.ofMillis(13500));
+    }
+
+    @Test
+    public void clampsToMinAndMaxSeconds() {
+        LearnedTimeouts fast = timeouts(95, 1.5, 5, 2, 60);
+        record(fast, 100, 100, 100, 100, 100);
+        assertEquals(fast.timeout(LOCATOR, FALLBACK), Duration.ofSeconds(2));
+
+        LearnedTimeouts slow = timeouts(95, 1.5, 5, 2, 60);
+        record(slow, 50_000, 50_000, 50_000, 50_000, 50_000);
+        assertEquals(slow.timeout(LOCATOR, FALLBACK), Duration.ofSeconds(60));
+    }
+
+    @Test
+    public void usesTheFallbackUntilMinSamples() {
+        LearnedTimeouts timeouts = timeouts(95, 1.5, 5, 2, 60);
+        record(timeouts, 3000, 3000, 3000, 3000);
+        assertEquals(timeouts.timeout(LOCATOR, FALLBACK), FALLBACK);
+
+        record(timeouts, 3000);
+        assertEquals(timeouts.timeout(LOCATOR, FALLBACK), Duration.ofMillis(4500));
+    }
+
+    @Test
+    public void resetsOnTimeOutOnlyWhenTheLearnedLimitWasUsed() {
+        LearnedTimeouts timeouts = timeouts(95, 1.0, 5, 0, 600);
+        record(timeouts, 3000, 3000, 3000, 3000, 3000);
+        Duration learned = timeouts.timeout(LOCATOR, FALLBACK);
+        assertEquals(learned, Duration.ofMillis(3000));
+
+        // Un límite menor viene del plazo de la prueba, no del tiempo aprendido
+        timeouts.timedOut(LOCATOR, Duration.ofMillis(1000));
+        assertEquals(timeouts.timeout(LOCATOR, FALLBACK), learned);
+
+        timeouts.timedOut(LOCATOR, learned);
+        assertEquals(timeouts.timeout(LOCATOR, FALLBACK), FALLBACK);
+    }
+
+    @Test
+    public void overridesTakePrecedenceOverTheLearnedTime() throws IOException {
+        Files.writeString(overrides, "{\"By.id: uname\": 45}", StandardCharsets.UTF_8);
+        LearnedTimeouts timeouts = timeouts(95, 1.0, 5, 0, 600);
+        record(timeouts, 3000, 3000, 3000, 3000, 3000);
+
+        assertEquals(timeouts.timeout(LOCATOR, FALLBACK), Duration.ofSeconds(45));
+
+        // Un localizador con tiempo manual nunca descarta su historial
+        timeouts.timedOut(LOCATOR, Duration.ofSeconds(45));
+        timeouts.save();
+        Files.delete(overrides);
+        assertEquals(timeouts(95, 1.0, 5, 0, 600).timeout(LOCATOR, FALLBACK), Duration.ofMillis(3000));
+    }
+
+    @Test
+    public void readsAndSavesTheHistoryFile() throws IOException {
+        Files.writeString(history, "{\"By.id: uname\": [1000, 2000, 3000, 4000, 5000]}", StandardCharsets.UTF_8);
+        LearnedTimeouts timeouts = timeouts(95, 1.0, 5, 0, 600);
+        assertEquals(timeouts.timeout(LOCATOR, FALLBACK), Duration.ofMillis(5000));
+
+        record(timeouts, 8000);
+        timeouts.save();
+
+        assertEquals(timeouts(95, 1.0, 5, 0, 600).timeout(LOCATOR, FALLBACK), Duration.ofMillis(8000));
+    }
+
+    @Test
+    public void usesTheFallbackWhenDisabled() throws IOException {
+        Files.writeString(overrides, "{\"By.id: uname\": 45}", StandardCharsets.UTF_8);
+        LearnedTimeouts timeouts = new LearnedTimeouts(() -> new WebDriverConfiguration.Waits.Learned(false,
+                history.toString(), overrides.toString(), 95, 1.0, 5, 50, 0, 600));
+
+        assertEquals(timeouts.timeout(LOCATOR, FALLBACK), FALLBACK);
+    }
+
+    private LearnedTimeouts timeouts(double percentile, double margin, int minSamples, long minSeconds,
+                                     long maxSeconds) {
+        WebDriverConfiguration.Waits.Learned configuration = new WebDriverConfiguration.Waits.Learned(true,
+                history.toString(), overrides.toString(), percentile, margin, minSamples, 50, minSeconds, maxSeconds);
+        return new LearnedTimeouts(() -> configuration);
+    }
+
+    private static void record(LearnedTimeouts timeouts, long... millis) {
+        for (long elapsed : millis) {
+            timeouts.succeeded(LOCATOR, Duration.ofMillis(elapsed));
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package pom.wait;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import pom.driver.DriverFactory;
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.general_repository.config.WebDriverConfiguration;
+import utils.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Mide el costo de resolver cada localizador de una clase de elementos y sugiere selectores equivalentes más
+ * rápidos.
+ *
+ * <p>
+ * Los localizadores XPath por texto ({@code //a//h4[text()='Mi perfil']}) recorren todo el documento en cada
+ * búsqueda, mientras que un id o un selector CSS por atributo se resuelven con los índices del navegador. Esta
+ * herramienta abre en el navegador de "browserType" cada captura del DOM (archivos .html) de la carpeta
+ * "locatorAnalysis.snapshots", que se generan durante las pruebas con "locatorAnalysis.captureSnapshots" o se
+ * guardan a mano desde la aplicación. En cada página y por cada constante {@link By} pública de la clase
+ * analizada, un script mide dentro del navegador el tiempo promedio de resolución y la cantidad de coincidencias,
+ * sin el costo de la comunicación con el driver, que se informa aparte. Para el primer elemento encontrado genera
+ * selectores CSS candidatos a partir de su id, sus atributos, sus clases y el ancestro más cercano con id, y
+ * conserva los que coinciden únicamente con ese elemento.
+ * </p>
+ *
+ * <p>
+ * Se sugiere el candidato válido en todas las páginas donde el localizador aparece que sea al menos
+ * {@value #MIN_SPEEDUP} veces más rápido, prefiriendo los que no dependen de ids con apariencia de generados. El
+ * reporte JSON, ordenado de mayor a menor tiempo de resolución, se escribe en "locatorAnalysis.report". Uso:
+ * </p>
+ * <pre>
+ * mvn test-compile exec:java "-Dexec.mainClass=pom.wait.LocatorAnalyzer" "-Dexec.classpathScope=test" "-Dexec.args=target/dom-snapshots pom.auto.elements.Elements"
+ * </pre>
+ */
+public final class LocatorAnalyzer {
+
+    private static final String DEFAULT_ELEMENTS_CLASS = "pom.auto.elements.Elements";
+    private static final double MIN_SPEEDUP = 1.2;
+    private static final long MEASURE_BUDGET_MILLIS = 25L;
+    private static final int DRIVER_SAMPLES = 3;
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Recibe los localizadores como [nombre, tipo, valor] y, por cada uno, retorna las coincidencias, el tiempo
+     * promedio de resolución en microsegundos y los selectores CSS candidatos con su tiempo.
+     */
+    private static final String ANALYZE_SCRIPT = """
+            const [locators, budget] = arguments;
+            const resolve = (using, value) => {
+              switch (using) {
+                case 'id': return [...document.querySelectorAll('#' + CSS.escape(value))];
+                case 'name': return [...document.getElementsByName(value)];
+                case 'class name': return [...document.getElementsByClassName(value)];
+                case 'tag name': return [...document.getElementsByTagName(value)];
+                case 'css selector': return [...document.querySelectorAll(value)];
+                case 'xpath': {
+                  const result = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                  const nodes = [];
+                  for (let i = 0; i < result.snapshotLength; i++) nodes.push(result.snapshotItem(i));
+                  return nodes;
+                }
+                case 'link text': return [...document.links].filter(a => a.innerText.trim() === value);
+                case 'partial link text': return [...document.links].filter(a => a.innerText.includes(value));
+                default: throw new Error('Tipo de localizador no soportado: ' + using);
+              }
+            };
+            const micros = search => {
+              let runs = 0;
+              const start = performance.now();
+              let elapsed = 0;
+              do {
+                search();
+                runs++;
+                elapsed = performance.now() - start;
+              } while (elapsed < budget && runs < 100000);
+              return elapsed * 1000 / runs;
+            };
+            const quote = text => '"' + text.replace(/["\\\\]/g, '\\\\$&') + '"';
+            const attributes = ['name', 'formcontrolname', 'data-testid', 'data-test', 'data-cy', 'aria-label',
+                'title', 'placeholder', 'for', 'href', 'type', 'value', 'role'];
+            const candidates = el => {
+              const tag = el.tagName.toLowerCase();
+              const own = [];
+              if (el.id) own.push({selector: '#' + CSS.escape(el.id), generated: /\\d{4,}/.test(el.id)});
+              for (const name of attributes) {
+                const value = el.getAttribute(name);
+                if (value) own.push({selector: tag + '[' + name + '=' + quote(value) + ']', generated: false});
+              }
+              const classes = [...el.classList].map(c => '.' + CSS.escape(c));
+              classes.forEach(c => own.push({selector: tag + c, generated: false}));
+              if (classes.length > 1) own.push({selector: tag + classes.join(''), generated: false});
+              own.push({selector: tag, generated: false});
+              const anchor = el.parentElement && el.parentElement.closest('[id]');
+              const scoped = anchor ? own.map(c => ({
+                selector: '#' + CSS.escape(anchor.id) + ' ' + c.selector,
+                generated: c.generated || /\\d{4,}/.test(anchor.id)
+              })) : [];
+              const seen = new Set();
+              return [...own, ...scoped].filter(c => !seen.has(c.selector) && seen.add(c.selector));
+            };
+            return locators.map(([name, using, value]) => {
+              try {
+                const found = resolve(using, value);
+                const row = {name, matches: found.length, micros: micros(() => resolve(using, value)), candidates: []};
+                if (found.length > 0 && found[0].nodeType === Node.ELEMENT_NODE) {
+                  for (const candidate of candidates(found[0])) {
+                    const matches = document.querySelectorAll(candidate.selector);
+                    if (matches.length === 1 && matches[0] === found[0]) {
+                      candidate.micros = micros(() => document.querySelectorAll(candidate.selector));
+                      row.candidates.push(candidate);
+                    }
+                  }
+                }
+                return row;
+              } catch (e) {
+                return {name, matches: 0, micros: 0, candidates: [], error: String(e.message || e)};
+              }
+            });
+            """;
+
+    private LocatorAnalyzer() {
+    }
+
+    public static void main(String[] args) throws ReflectiveOperationException {
+        WebDriverConfiguration configuration = ConfigurationSnapshot.current().webDriverConfiguration();
+        Path snapshots = Paths.get(args.length > 0 ? args[0] : configuration.locatorAnalysis().snapshots());
+        Class<?> elements = Class.forName(args.length > 1 ? args[1] : DEFAULT_ELEMENTS_CLASS);
+        Path output = Paths.get(configuration.locatorAnalysis().report());
+
+        List<Path> pages = pages(snapshots);
+        if (pages.isEmpty()) {
+            Log.warn(LogInfo.LOG_LOCATOR_ANALYSIS_NO_SNAPSHOTS + snapshots.toAbsolutePath());
+            return;
+        }
+        Map<String, By> locators = locators(elements);
+
+        Map<String, List<Map<String, Object>>> results = new LinkedHashMap<>();
+        locators.keySet().forEach(name -> results.put(name, new ArrayList<>()));
+        WebDriver driver = DriverFactory.create(configuration.browserType()).join();
+        try {
+            for (Path page : pages) {
+                analyze(driver, page, locators, results);
+            }
+        } finally {
+            driver.quit();
+            DriverFactory.shutdown();
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        results.forEach((name, perPage) -> rows.add(summarize(name, locators.get(name), perPage)));
+        rows.sort(Comparator.comparingDouble((Map<String, Object> row) -> (double) row.get("avgMicros")).reversed());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("elements", elements.getName());
+        report.put("browser", configuration.browserType());
+        report.put("snapshots", pages.stream().map(page -> page.getFileName().toString()).toList());
+        report.put("locators", rows);
+        try {
+            if (output.getParent() != null) Files.createDirectories(output.getParent());
+            MAPPER.writeValue(output.toFile(), report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rows.stream().filter(row -> row.get("suggestion") != null).forEach(row -> Log.info(
+                LogInfo.LOG_LOCATOR_ANALYSIS + row.get("name") + ": " + row.get("locator") + " -> "
+                        + row.get("suggestion") + " (" + row.get("speedup") + "x)"));
+        Log.info(LogInfo.LOG_LOCATOR_ANALYSIS_REPORT + output.toAbsolutePath());
+    }
+
+    /**
+     * Mide los localizadores en una captura: el tiempo dentro del navegador con el script y la búsqueda completa a
+     * través del driver.
+     */
+    @SuppressWarnings("unchecked")
+    private static void analyze(WebDriver driver, Path page, Map<String, By> locators,
+                                Map<String, List<Map<String, Object>>> results) {
+        driver.get(page.toUri().toString());
+        List<List<String>> specs = new ArrayList<>();
+        locators.forEach((name, locator) -> {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            specs.add(List.of(name, parameters.using(), String.valueOf(parameters.value())));
+        });
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(ANALYZE_SCRIPT, specs, MEASURE_BUDGET_MILLIS);
+
+        for (Map<String, Object> row : rows) {
+            String name = (String) row.remove("name");
+            row.put("snapshot", page.getFileName().toString());
+            if (((Number) row.get("matches")).intValue() > 0) {
+                row.put("driverMillis", driverMillis(driver, locators.get(name)));
+            }
+            results.get(name).add(row);
+        }
+    }
+
+    /**
+     * Mediana del tiempo de {@code findElements} a través del driver, que incluye la comunicación con el navegador.
+     */
+    private static long driverMillis(WebDriver driver, By locator) {
+        long[] samples = new long[DRIVER_SAMPLES];
+        for (int i = 0; i < DRIVER_SAMPLES; i++) {
+            long start = System.nanoTime();
+            driver.findElements(locator);
+            samples[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+        Arrays.sort(samples);
+        return samples[DRIVER_SAMPLES / 2];
+    }
+
+    /**
+     * Resume las mediciones de un localizador en todas las capturas y elige la sugerencia: el candidato válido en
+     * todas las capturas donde aparece, sin ids generados si es posible y con el menor tiempo promedio.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> summarize(String name, By locator, List<Map<String, Object>> perPage) {
+        List<Map<String, Object>> present = perPage.stream()
+                .filter(row -> ((Number) row.get("matches")).intValue() > 0)
+                .toList();
+        double avgMicros = present.stream().mapToDouble(row -> ((Number) row.get("micros")).doubleValue())
+                .average().orElse(0);
+
+        Set<String> common = null;
+        Map<String, Double> candidateMicros = new HashMap<>();
+        Map<String, Boolean> generated = new HashMap<>();
+        for (Map<String, Object> row : present) {
+            Set<String> selectors = new LinkedHashSet<>();
+            for (Map<String, Object> candidate : (List<Map<String, Object>>) row.get("candidates")) {
+                String selector = (String) candidate.get("selector");
+                selectors.add(selector);
+                candidateMicros.merge(selector, ((Number) candidate.get("micros")).doubleValue() / present.size(),
+                        Double::sum);
+                generated.put(selector, Boolean.TRUE.equals(candidate.get("generated")));
+            }
+            if (common == null) {
+                common = selectors;
+            } else {
+                common.retainAll(selectors);
+            }
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("name", name);
+        summary.put("locator", locator.toString());
+        summary.put("foundIn", present.size());
+        summary.put("maxMatches", present.stream().mapToInt(row -> ((Number) row.get("matches")).intValue())
+                .max().orElse(0));
+        summary.put("avgMicros", round(avgMicros));
+        String best = common == null ? null : common.stream()
+                .min(Comparator.comparing((String selector) -> generated.get(selector))
+                        .thenComparingDouble(candidateMicros::get))
+                .orElse(null);
+        if (best != null && candidateMicros.get(best) * MIN_SPEEDUP <= avgMicros) {
+            summary.put("suggestion", "By.cssSelector(\"" + best.replace("\\", "\\\\").replace("\"", "\\\"") + "\")");
+            summary.put("suggestionMicros", round(candidateMicros.get(best)));
+            summary.put("speedup", round(avgMicros / candidateMicros.get(best)));
+            summary.put("suggestionGeneratedId", generated.get(best));
+        } else {
+            summary.put("suggestion", null);
+        }
+        summary.put("pages", perPage);
+        return summary;
+    }
+
+    /**
+     * Retorna las constantes públicas y estáticas de tipo {@link By} de la clase, por nombre, en orden de
+     * declaración. Se omiten los localizadores que no se pueden traducir a una búsqueda del navegador.
+     */
+    private static Map<String, By> locators(Class<?> elements) throws IllegalAccessException {
+        Map<String, By> locators = new LinkedHashMap<>();
+        for (Field field : elements.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && By.class.isAssignableFrom(field.getType())
+                    && field.get(null) instanceof By.Remotable locator) {
+                locators.put(field.getName(), (By) locator);
+            }
+        }
+        return locators;
+    }
+
+    private static List<Path> pages(Path snapshots) {
+        if (!Files.isDirectory(snapshots)) return List.of();
+        try (Stream<Path> files = Files.list(snapshots)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".html")).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,277 @@
+package pom.wait;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import pom.TestContext;
+import pom.general_repository.LogInfo;
+import pom.general_repository.config.ConfigurationSnapshot;
+import pom.general_repository.config.WebDriverConfiguration;
+import utils.Log;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Registra cuánto tiempo consume cada localizador y cada paso del reporte en las esperas y búsquedas de
+ * {@link pom.Base}.
+ *
+ * <p>
+ * Por cada localizador y flujo se acumula la cantidad de operaciones, el tiempo hasta que la condición se cumple,
+ * los reintentos de las esperas ({@link AdaptiveWait}), los tiempos de espera agotados y un histograma de
+ * duraciones. Las operaciones anidadas (por ejemplo, la espera dentro de un clic) se cuentan una sola vez, en la
+ * operación externa. Al finalizar la suite se llama a {@link #report(String)}, que ordena los localizadores y los
+ * pasos por tiempo total, escribe el resultado en JSON en "telemetry.report" y, si se llama desde un método
+ * {@code @AfterSuite}, lo adjunta a ese método en el reporte de Allure. {@link LocatorTelemetryListener} lo llama
+ * también al cerrar la suite, para escribir el archivo si ningún {@code @AfterSuite} lo hizo.
+ * </p>
+ */
+public final class LocatorTelemetry {
+
+    /**
+     * Límites superiores, en milisegundos, de los intervalos del histograma; el último intervalo no tiene límite.
+     */
+    private static final long[] BUCKETS_MILLIS = {50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000};
+
+    private static final int TOP_TEXT_ROWS = 15;
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final Map<Key, Stats> LOCATORS = new ConcurrentHashMap<>();
+    private static final Map<Key, Stats> STEPS = new ConcurrentHashMap<>();
+
+    /**
+     * Operación en curso del hilo, o null si no hay ninguna.
+     */
+    private static final ThreadLocal<Measurement> CURRENT = new ThreadLocal<>();
+
+    private LocatorTelemetry() {
+    }
+
+    /**
+     * Indica si se deben registrar las operaciones.
+     *
+     * @return el valor de "telemetry.enabled" en config.json.
+     */
+    public static boolean enabled() {
+        return ConfigurationSnapshot.current().webDriverConfiguration().telemetry().enabled();
+    }
+
+    /**
+     * Ejecuta una operación sobre un localizador y registra su duración. Si la operación lanza
+     * {@link TimeoutException}, se registra como tiempo de espera agotado.
+     *
+     * @param locator   el localizador.
+     * @param operation nombre de la operación, por ejemplo "find" o "wait:VISIBLE".
+     * @param action    la operación.
+     * @param <T>       tipo del resultado.
+     * @return el resultado de la operación.
+     */
+    public static <T> T measure(By locator, String operation, Supplier<T> action) {
+        if (CURRENT.get() != null || !enabled()) return action.get();
+
+        Measurement measurement = new Measurement();
+        CURRENT.set(measurement);
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } catch (TimeoutException e) {
+            measurement.timedOut = true;
+            throw e;
+        } finally {
+            CURRENT.remove();
+            String flow = TestContext.current().testName();
+            LOCATORS.computeIfAbsent(new Key(locator + " [" + operation + "]", flow), key -> new Stats())
+                    .add(System.nanoTime() - start, measurement.retries, measurement.timedOut);
+        }
+    }
+
+    /**
+     * Registra la cantidad de evaluaciones de una espera en la operación en curso; todas salvo la primera se
+     * cuentan como reintentos.
+     *
+     * @param attempts evaluaciones de la condición.
+     */
+    static void attempts(int attempts) {
+        Measurement measurement = CURRENT.get();
+        if (measurement != null && attempts > 1) measurement.retries += attempts - 1;
+    }
+
+    /**
+     * Marca la operación en curso como tiempo de espera agotado, para operaciones que capturan la excepción.
+     */
+    public static void timedOut() {
+        Measurement measurement = CURRENT.get();
+        if (measurement != null) measurement.timedOut = true;
+    }
+
+    /**
+     * Registra la duración de un paso de Allure en el flujo actual.
+     *
+     * @param step   nombre del paso.
+     * @param millis duración del paso.
+     */
+    public static void recordStep(String step, long millis) {
+        if (step == null || !enabled()) return;
+        STEPS.computeIfAbsent(new Key(step, TestContext.current().testName()), key -> new Stats())
+                .add(TimeUnit.MILLISECONDS.toNanos(millis), 0, false);
+    }
+
+    /**
+     * Escribe el reporte de la suite en JSON, lo adjunta a la prueba o al fixture de Allure en curso y descarta lo
+     * registrado.
+     *
+     * @param suite nombre de la suite.
+     */
+    public static synchronized void report(String suite) {
+        if (LOCATORS.isEmpty() && STEPS.isEmpty()) return;
+        WebDriverConfiguration.Telemetry configuration =
+                ConfigurationSnapshot.current().webDriverConfiguration().telemetry();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suite);
+        report.put("histogramBucketsMillis", bucketNames());
+        report.put("locators", rank(LOCATORS));
+        report.put("steps", rank(STEPS));
+        LOCATORS.clear();
+        STEPS.clear();
+
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(report);
+            Path path = Paths.get(configuration.report());
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            Files.write(path, json);
+            attach(json, summary(report));
+            Log.info(LogInfo.LOG_TELEMETRY_REPORT + path.toAbsolutePath());
+        } catch (IOException | RuntimeException e) {
+            Log.warn(LogInfo.LOG_TELEMETRY_REPORT_ERROR + e.getMessage());
+        }
+    }
+
+    /**
+     * Agrupa las mediciones por nombre, con el desglose por flujo, ordenadas de mayor a menor tiempo total.
+     */
+    private static List<Map<String, Object>> rank(Map<Key, Stats> measurements) {
+        Map<String, Stats> totals = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> flows = new LinkedHashMap<>();
+        measurements.forEach((key, stats) -> {
+            totals.computeIfAbsent(key.name(), name -> new Stats()).merge(stats);
+            flows.computeIfAbsent(key.name(), name -> new LinkedHashMap<>())
+                    .put(key.flow(), TimeUnit.NANOSECONDS.toMillis(stats.totalNanos));
+        });
+
+        return totals.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stats> entry) -> entry.getValue().totalNanos)
+                        .reversed())
+                .map(entry -> {
+                    Map<String, Object> row = entry.getValue().toMap();
+                    row.put("name", entry.getKey());
+                    row.put("flowsMillis", flows.get(entry.getKey()));
+                    return row;
+                })
+                .toList();
+    }
+
+    /**
+     * Resumen en texto de los localizadores y pasos más costosos, para leerlo directamente en Allure.
+     */
+    @SuppressWarnings("unchecked")
+    private static String summary(Map<String, Object> report) {
+        StringBuilder text = new StringBuilder();
+        for (String section : List.of("locators", "steps")) {
+            text.append(section.equals("locators") ? "Localizadores" : "Pasos")
+                    .append(" con mayor tiempo total (ms: total / promedio / máximo, reintentos, tiempos agotados)\n");
+            List<Map<String, Object>> rows = (List<Map<String, Object>>) report.get(section);
+            rows.stream().limit(TOP_TEXT_ROWS).forEach(row -> text.append(String.format(
+                    "%8d / %6d / %6d  %5d  %3d  %s%n", row.get("totalMillis"), row.get("avgMillis"),
+                    row.get("maxMillis"), row.get("retries"), row.get("timeouts"), row.get("name"))));
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Adjunta el reporte al fixture en curso; desde un {@code @AfterSuite}, Allure lo muestra en el cierre de cada
+     * prueba de la suite. Si no hay una prueba ni un fixture en curso, el reporte queda solo en el archivo.
+     */
+    private static void attach(byte[] json, String summary) {
+        if (Allure.getLifecycle().getCurrentTestCaseOrStep().isEmpty()) return;
+        Allure.addAttachment(LogInfo.LOG_TELEMETRY_ALLURE_NAME, "text/plain", summary, "txt");
+        Allure.addAttachment(LogInfo.LOG_TELEMETRY_ALLURE_NAME, "application/json", new ByteArrayInputStream(json),
+                "json");
+    }
+
+    private static List<String> bucketNames() {
+        List<String> names = new ArrayList<>();
+        for (long limit : BUCKETS_MILLIS) names.add("<" + limit);
+        names.add(">=" + BUCKETS_MILLIS[BUCKETS_MILLIS.length - 1]);
+        return names;
+    }
+
+    private record Key(String name, String flow) {
+    }
+
+    private static final class Measurement {
+        private int retries;
+        private boolean timedOut;
+    }
+
+    /**
+     * Acumulado de duraciones de un localizador o paso.
+     */
+    private static final class Stats {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long retries;
+        private long timeouts;
+        private final long[] histogram = new long[BUCKETS_MILLIS.length + 1];
+
+        synchronized void add(long nanos, int retries, boolean timedOut) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            this.retries += retries;
+            if (timedOut) timeouts++;
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int bucket = 0;
+            while (bucket < BUCKETS_MILLIS.length && millis >= BUCKETS_MILLIS[bucket]) bucket++;
+            histogram[bucket]++;
+        }
+
+        synchronized void merge(Stats other) {
+            synchronized (other) {
+                count += other.count;
+                totalNanos += other.totalNanos;
+                maxNanos = Math.max(maxNanos, other.maxNanos);
+                retries += other.retries;
+                timeouts += other.timeouts;
+                for (int i = 0; i < histogram.length; i++) histogram[i] += other.histogram[i];
+            }
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", count);
+            row.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(totalNanos));
+            row.put("avgMillis", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / count));
+            row.put("maxMillis", TimeUnit.NANOSECONDS.toMillis(maxNanos));
+            row.put("retries", retries);
+            row.put("timeouts", timeouts);
+            row.put("histogram", histogram.clone());
+            return row;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package pom.wait;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Emite el reporte de {@link LocatorTelemetry}, si ningún {@code @AfterSuite} lo hizo, y guarda el historial de
+ * {@link LearnedTimeouts} al finalizar cada suite.
+ */
+public class LocatorTelemetryListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        LocatorTelemetry.report(suite.getName());
+        LearnedTimeouts.shared().save();
+    }
+}
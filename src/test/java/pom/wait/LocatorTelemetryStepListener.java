@@ -0,0 +1,22 @@
+package pom.wait;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+
+/**
+ * Informa a {@link LocatorTelemetry} la duración de cada paso del reporte de Allure, para incluir los pasos más
+ * costosos en el reporte de la suite.
+ *
+ * <p>
+ * Se registra mediante META-INF/services/io.qameta.allure.listener.StepLifecycleListener.
+ * </p>
+ */
+public class LocatorTelemetryStepListener implements StepLifecycleListener {
+
+    @Override
+    public void beforeStepStop(StepResult result) {
+        if (result.getStart() != null) {
+            LocatorTelemetry.recordStep(result.getName(), System.currentTimeMillis() - result.getStart());
+        }
+    }
+}
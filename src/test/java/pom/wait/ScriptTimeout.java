@@ -0,0 +1,55 @@
+package pom.wait;
+
+import org.openqa.selenium.WebDriver;
+import pom.general_repository.config.ConfigurationSnapshot;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Tiempo máximo de los scripts asíncronos de cada sesión.
+ *
+ * <p>
+ * Los scripts de {@link DomWait} y {@link AppStability} terminan por sí mismos al agotar su propio tiempo, por lo
+ * que el tiempo máximo del driver solo debe superarlo. Se fija una vez por sesión en el plazo de la prueba más un
+ * margen, en lugar de leerlo, cambiarlo y restaurarlo en cada espera (tres consultas al driver adicionales), y solo
+ * se vuelve a cambiar si una espera necesita más.
+ * </p>
+ */
+final class ScriptTimeout {
+
+    /**
+     * Margen sobre el tiempo de la espera, para que el script alcance a responder.
+     */
+    private static final Duration MARGIN = Duration.ofSeconds(5);
+
+    /**
+     * Tiempo mínimo que se fija cuando la prueba no tiene plazo.
+     */
+    private static final Duration MINIMUM = Duration.ofMinutes(2);
+
+    private static final Map<WebDriver, Duration> APPLIED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ScriptTimeout() {
+    }
+
+    /**
+     * Asegura que el tiempo máximo de scripts de la sesión alcance para una espera del tiempo indicado.
+     *
+     * @param driver  el driver de la sesión.
+     * @param timeout el tiempo de la espera que ejecutará el script.
+     */
+    static void cover(WebDriver driver, Duration timeout) {
+        Duration required = timeout.plus(MARGIN);
+        Duration applied = APPLIED.get(driver);
+        if (applied != null && applied.compareTo(required) >= 0) return;
+
+        long budget = ConfigurationSnapshot.current().webDriverConfiguration().testBudgetSeconds();
+        Duration value = budget > 0 ? Duration.ofSeconds(budget).plus(MARGIN) : MINIMUM;
+        if (value.compareTo(required) < 0) value = required;
+        driver.manage().timeouts().scriptTimeout(value);
+        APPLIED.put(driver, value);
+    }
+}
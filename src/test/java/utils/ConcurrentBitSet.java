@@ -0,0 +1,44 @@
+package utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Conjunto de bits de tamaño fijo que admite marcar bits desde varios hilos sin bloqueos.
+ */
+final class ConcurrentBitSet {
+
+    private final AtomicLongArray words;
+    private final long size;
+
+    ConcurrentBitSet(long size) {
+        this.size = size;
+        this.words = new AtomicLongArray((int) ((size + 63) >>> 6));
+    }
+
+    /**
+     * Marca el bit indicado.
+     *
+     * @param index posición del bit, entre 0 y el tamaño del conjunto menos uno.
+     * @return true si el bit no estaba marcado y este hilo lo marcó; false si ya estaba marcado.
+     */
+    boolean claim(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int word = (int) (index >>> 6);
+        long mask = 1L << (index & 63);
+        while (true) {
+            long current = words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    long size() {
+        return size;
+    }
+}
@@ -0,0 +1,216 @@
+package utils;
+
+import pom.Base;
+import pom.general_repository.LogInfo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Genera de forma masiva RUT chilenos válidos y únicos, escribiéndolos en un archivo (uno por línea).
+ *
+ * <p>
+ * La generación se reparte entre todos los núcleos disponibles. Cada hilo usa su propio generador
+ * {@link SplittableRandom}, la unicidad se garantiza con un conjunto de bits compartido sin bloqueos y cada
+ * hilo escribe bloques completos en el archivo reservando su posición de forma atómica, por lo que los hilos
+ * no se esperan entre sí. El dígito verificador se calcula con {@link Base#calculateVerifyDigit(int)} y el
+ * formato es el mismo de {@link Base#generateRUT()}: "XXXXXXXX-Y".
+ * </p>
+ *
+ * <p>Ejecución:</p>
+ * <pre>
+ * mvn exec:java "-Dexec.mainClass=utils.RutBulkGenerator" "-Dexec.classpathScope=test"
+ *     "-Dexec.args=1000000 target/ruts.txt"
+ * </pre>
+ * <p>
+ * Argumentos: cantidad de RUT, archivo de salida y, opcionalmente, el rango del número sin dígito verificador
+ * (mínimo incluido y máximo excluido; por defecto 1000000 y 100000000).
+ * </p>
+ */
+public final class RutBulkGenerator {
+
+    public static final int DEFAULT_MIN = 1_000_000;
+    public static final int DEFAULT_MAX = 100_000_000;
+
+    /**
+     * Largo de cada línea: 8 dígitos, guion, dígito verificador y salto de línea.
+     */
+    static final int LINE_LENGTH = 11;
+
+    private static final int LINES_PER_BLOCK = 8192;
+
+    /**
+     * Resultado de una generación masiva.
+     *
+     * @param count        cantidad de RUT generados.
+     * @param output       archivo generado.
+     * @param elapsedNanos duración total de la generación.
+     */
+    public record Result(long count, Path output, long elapsedNanos) {
+
+        public double perSecond() {
+            return count / (elapsedNanos / 1_000_000_000d);
+        }
+
+        public double megabytesPerSecond() {
+            return count * LINE_LENGTH / 1_048_576d / (elapsedNanos / 1_000_000_000d);
+        }
+    }
+
+    private RutBulkGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        long count = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        Path output = Paths.get(args.length > 1 ? args[1] : "target/ruts.txt");
+        int min = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_MIN;
+        int max = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_MAX;
+
+        generate(count, min, max, output, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Genera la cantidad indicada de RUT únicos con número entre {@code min} (incluido) y {@code max} (excluido).
+     *
+     * @param count  cantidad de RUT a generar.
+     * @param min    valor mínimo del número sin dígito verificador.
+     * @param max    valor máximo, excluido, del número sin dígito verificador.
+     * @param output archivo de salida; se reemplaza si existe.
+     * @param seed   semilla del generador aleatorio.
+     * @return el resultado de la generación, incluyendo su rendimiento.
+     * @throws IOException si no se puede escribir el archivo.
+     */
+    public static Result generate(long count, int min, int max, Path output, long seed) throws IOException {
+        if (min < 0 || max > DEFAULT_MAX || min >= max) {
+            throw new IllegalArgumentException(LogInfo.LOG_RUT_BULK_INVALID_RANGE + min + " - " + max);
+        }
+        if (count > (long) max - min) {
+            throw new IllegalArgumentException(LogInfo.LOG_RUT_BULK_INVALID_COUNT + count);
+        }
+
+        Log.info(LogInfo.LOG_RUT_BULK_START + count);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+
+        int workers = Runtime.getRuntime().availableProcessors();
+        ConcurrentBitSet used = new ConcurrentBitSet((long) max - min);
+        AtomicLong position = new AtomicLong();
+        SplittableRandom root = new SplittableRandom(seed);
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                long quota = count / workers + (i < count % workers ? 1 : 0);
+                SplittableRandom random = root.split();
+                futures.add(executor.submit(() -> produce(quota, min, max, random, used, channel, position)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(LogInfo.LOG_RUT_BULK_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Result result = new Result(count, output, System.nanoTime() - start);
+        Log.info(LogInfo.LOG_RUT_BULK_FINISH + result.count() + " en " + result.elapsedNanos() / 1_000_000 + " ms ("
+                + Math.round(result.perSecond()) + " RUT/s, "
+                + String.format("%.1f", result.megabytesPerSecond()) + " MB/s) -> " + output);
+        return result;
+    }
+
+    private static void produce(long quota, int min, int max, SplittableRandom random, ConcurrentBitSet used,
+                                FileChannel channel, AtomicLong position) {
+        byte[] block = new byte[LINES_PER_BLOCK * LINE_LENGTH];
+        int lines = 0;
+
+        for (long produced = 0; produced < quota; ) {
+            int number = random.nextInt(min, max);
+            if (!used.claim(number - min)) continue;
+
+            writeRut(block, lines * LINE_LENGTH, number);
+            block[lines * LINE_LENGTH + LINE_LENGTH - 1] = '\n';
+            produced++;
+
+            if (++lines == LINES_PER_BLOCK) {
+                flush(channel, position, block, lines);
+                lines = 0;
+            }
+        }
+
+        if (lines > 0) {
+            flush(channel, position, block, lines);
+        }
+    }
+
+    private static void flush(FileChannel channel, AtomicLong position, byte[] block, int lines) {
+        int length = lines * LINE_LENGTH;
+        // Cada hilo reserva su rango del archivo, por lo que las escrituras no se solapan ni se esperan
+        long offset = position.getAndAdd(length);
+        ByteBuffer buffer = ByteBuffer.wrap(block, 0, length);
+        try {
+            while (buffer.hasRemaining()) {
+                offset += channel.write(buffer, offset);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Escribe un RUT con el formato "XXXXXXXX-Y" (10 caracteres) en la posición indicada.
+     *
+     * @param target arreglo de destino.
+     * @param offset posición inicial.
+     * @param number número del RUT sin dígito verificador, menor a 100000000.
+     */
+    static void writeRut(byte[] target, int offset, int number) {
+        char verifyDigit = Base.calculateVerifyDigit(number);
+        for (int i = offset + 7; i >= offset; i--) {
+            target[i] = (byte) ('0' + number % 10);
+            number /= 10;
+        }
+        target[offset + 8] = '-';
+        target[offset + 9] = (byte) verifyDigit;
+    }
+
+    /**
+     * Retorna el RUT con el formato "XXXXXXXX-Y".
+     *
+     * @param number número del RUT sin dígito verificador, menor a 100000000.
+     * @return el RUT con su dígito verificador.
+     */
+    public static String format(int number) {
+        byte[] rut = new byte[LINE_LENGTH - 1];
+        writeRut(rut, 0, number);
+        return new String(rut, StandardCharsets.US_ASCII);
+    }
+}
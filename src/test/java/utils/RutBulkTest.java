@@ -0,0 +1,76 @@
+package utils;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.testng.Assert.*;
+
+/**
+ * Pruebas de la generación masiva de {@link RutBulkGenerator} validada con {@link RutBulkValidator}, y de los
+ * formatos que acepta {@link RutBulkValidator#parse(String)}.
+ */
+public class RutBulkTest {
+
+    private static final int COUNT = 5_000;
+    private static final int MIN = 10_000_000;
+    private static final int MAX = 10_010_000;
+
+    private Path output;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        output = Files.createTempFile("ruts", ".txt");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(output);
+    }
+
+    @Test
+    public void generatedRutsAreValidAndUnique() throws IOException {
+        RutBulkGenerator.Result generated = RutBulkGenerator.generate(COUNT, MIN, MAX, output, 42L);
+        RutBulkValidator.Result validated = RutBulkValidator.validate(output);
+
+        assertEquals(generated.count(), COUNT);
+        assertEquals(validated.total(), COUNT);
+        assertEquals(validated.valid(), COUNT);
+        assertEquals(validated.invalid(), 0);
+        assertEquals(validated.duplicates(), 0);
+    }
+
+    @Test
+    public void parseAcceptsDashedDottedAndBareFormats() {
+        assertEquals(RutBulkValidator.parse("12345678-5"), 12_345_678);
+        assertEquals(RutBulkValidator.parse("12.345.678-5"), 12_345_678);
+        assertEquals(RutBulkValidator.parse("123456785"), 12_345_678);
+        assertEquals(RutBulkValidator.parse("  12345678-5 "), 12_345_678);
+    }
+
+    @Test
+    public void parseAcceptsLowercaseK() {
+        assertEquals(RutBulkValidator.parse("10000013-K"), 10_000_013);
+        assertEquals(RutBulkValidator.parse("10000013-k"), 10_000_013);
+        assertEquals(RutBulkValidator.parse("10.000.013-k"), 10_000_013);
+    }
+
+    @Test
+    public void parseRejectsNineOrMoreDigits() {
+        assertEquals(RutBulkValidator.parse("123456789-2"), -1);
+        assertEquals(RutBulkValidator.parse("1234567890"), -1);
+        assertEquals(RutBulkValidator.parse("123.456.789-2"), -1);
+    }
+
+    @Test
+    public void parseRejectsWrongVerifyDigitAndMalformedInput() {
+        assertEquals(RutBulkValidator.parse("12345678-4"), -1);
+        assertEquals(RutBulkValidator.parse("1234A678-5"), -1);
+        assertEquals(RutBulkValidator.parse("-5"), -1);
+        assertEquals(RutBulkValidator.parse("5"), -1);
+    }
+}
@@ -0,0 +1,137 @@
+package utils;
+
+import pom.Base;
+import pom.general_repository.LogInfo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Valida de forma masiva una lista de RUT entregada en un archivo (uno por línea).
+ *
+ * <p>
+ * El archivo se procesa como un flujo paralelo de líneas, sin cargarlo completo en memoria. Por cada línea se
+ * verifica el formato y el dígito verificador con {@link Base#calculateVerifyDigit(int)}, y se detectan los
+ * RUT repetidos con un conjunto de bits compartido. Se aceptan los formatos "12345678-5", "12.345.678-5" y
+ * "123456785", con la letra K en mayúscula o minúscula.
+ * </p>
+ *
+ * <p>Ejecución:</p>
+ * <pre>
+ * mvn exec:java "-Dexec.mainClass=utils.RutBulkValidator" "-Dexec.classpathScope=test"
+ *     "-Dexec.args=target/ruts.txt"
+ * </pre>
+ */
+public final class RutBulkValidator {
+
+    /**
+     * Cantidad máxima de líneas inválidas que se registran en el log.
+     */
+    private static final int MAX_LOGGED_INVALID = 20;
+
+    /**
+     * Resultado de una validación masiva.
+     *
+     * @param total        cantidad de líneas no vacías procesadas.
+     * @param valid        cantidad de RUT válidos.
+     * @param invalid      cantidad de líneas con formato o dígito verificador inválido.
+     * @param duplicates   cantidad de RUT válidos que ya habían aparecido antes en el archivo.
+     * @param elapsedNanos duración total de la validación.
+     */
+    public record Result(long total, long valid, long invalid, long duplicates, long elapsedNanos) {
+
+        public double perSecond() {
+            return total / (elapsedNanos / 1_000_000_000d);
+        }
+    }
+
+    private RutBulkValidator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        validate(Paths.get(args.length > 0 ? args[0] : "target/ruts.txt"));
+    }
+
+    /**
+     * Valida todos los RUT del archivo indicado.
+     *
+     * @param input archivo con un RUT por línea.
+     * @return el resultado de la validación, incluyendo su rendimiento.
+     * @throws IOException si no se puede leer el archivo.
+     */
+    public static Result validate(Path input) throws IOException {
+        Log.info(LogInfo.LOG_RUT_VALIDATION_START + input);
+
+        ConcurrentBitSet seen = new ConcurrentBitSet(RutBulkGenerator.DEFAULT_MAX);
+        LongAdder total = new LongAdder();
+        LongAdder valid = new LongAdder();
+        LongAdder invalid = new LongAdder();
+        LongAdder duplicates = new LongAdder();
+        long start = System.nanoTime();
+
+        try (Stream<String> lines = Files.lines(input, StandardCharsets.UTF_8)) {
+            lines.parallel().forEach(line -> {
+                if (line.isBlank()) return;
+                total.increment();
+
+                int number = parse(line);
+                if (number < 0) {
+                    if (invalid.sum() < MAX_LOGGED_INVALID) {
+                        Log.warn(LogInfo.LOG_RUT_VALIDATION_INVALID + line);
+                    }
+                    invalid.increment();
+                } else if (seen.claim(number)) {
+                    valid.increment();
+                } else {
+                    duplicates.increment();
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        Result result = new Result(total.sum(), valid.sum(), invalid.sum(), duplicates.sum(),
+                System.nanoTime() - start);
+        Log.info(LogInfo.LOG_RUT_VALIDATION_FINISH + result.total() + " en " + result.elapsedNanos() / 1_000_000
+                + " ms (" + Math.round(result.perSecond()) + " RUT/s) - válidos: " + result.valid()
+                + ", inválidos: " + result.invalid() + ", repetidos: " + result.duplicates());
+        return result;
+    }
+
+    /**
+     * Analiza un RUT y verifica su dígito verificador.
+     *
+     * @param rut el RUT a analizar.
+     * @return el número sin dígito verificador si el RUT es válido, o -1 si no lo es.
+     */
+    public static int parse(String rut) {
+        int end = rut.length();
+        while (end > 0 && Character.isWhitespace(rut.charAt(end - 1))) end--;
+        int begin = 0;
+        while (begin < end && Character.isWhitespace(rut.charAt(begin))) begin++;
+        if (end - begin < 2) return -1;
+
+        char verifyDigit = Character.toUpperCase(rut.charAt(end - 1));
+        int bodyEnd = end - 1;
+        if (rut.charAt(bodyEnd - 1) == '-') bodyEnd--;
+
+        long number = 0;
+        int digits = 0;
+        for (int i = begin; i < bodyEnd; i++) {
+            char c = rut.charAt(i);
+            if (c == '.') continue;
+            if (c < '0' || c > '9') return -1;
+            number = number * 10 + (c - '0');
+            if (++digits > 8) return -1;
+        }
+
+        if (digits == 0) return -1;
+        return Base.calculateVerifyDigit((int) number) == verifyDigit ? (int) number : -1;
+    }
+}
@@ -0,0 +1,55 @@
+package utils;
+
+/**
+ * Préstamo de un RUT entregado por {@link RutPool}.
+ *
+ * <p>
+ * El préstamo se debe cerrar al finalizar el flujo que lo utiliza, idealmente mediante try-with-resources.
+ * Cerrarlo más de una vez no tiene efecto.
+ * </p>
+ */
+public final class RutLease implements AutoCloseable {
+
+    /**
+     * Modo en que se presta el RUT.
+     */
+    public enum Mode {
+        /**
+         * Varios flujos de solo lectura pueden usar el RUT al mismo tiempo.
+         */
+        SHARED,
+        /**
+         * Un único flujo usa el RUT, porque modifica los datos del usuario.
+         */
+        EXCLUSIVE
+    }
+
+    private final RutPool pool;
+    private final String rut;
+    private final Mode mode;
+    private boolean released;
+
+    RutLease(RutPool pool, String rut, Mode mode) {
+        this.pool = pool;
+        this.rut = rut;
+        this.mode = mode;
+    }
+
+    public String rut() {
+        return rut;
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Devuelve el RUT al pool.
+     */
+    @Override
+    public synchronized void close() {
+        if (released) return;
+        released = true;
+        pool.release(this);
+    }
+}
@@ -0,0 +1,217 @@
+package utils;
+
+import pom.general_repository.LogInfo;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reparte los RUT de impersonalización entre las pruebas que se ejecutan en paralelo.
+ *
+ * <p>
+ * Cada RUT tiene un estado atómico independiente, por lo que obtener un RUT nunca bloquea a las pruebas que
+ * trabajan con otros RUT y no existe un candado global. Se admiten dos modos de préstamo:
+ * </p>
+ * <ul>
+ *   <li><b>Compartido:</b> para flujos de solo lectura; varios flujos pueden usar el mismo RUT a la vez.</li>
+ *   <li><b>Exclusivo:</b> para flujos que modifican datos del usuario (por ejemplo, flujo 1); el RUT no se
+ *   entrega a ningún otro flujo hasta que se libera.</li>
+ * </ul>
+ * <p>
+ * Cada flujo indica una lista de RUT candidatos (config.json, "impersonalizacion") y recibe el primero que esté
+ * disponible, de modo que dos flujos que no pueden compartir un RUT avanzan en paralelo con RUT distintos. Mientras
+ * un flujo exclusivo espera un RUT, no se conceden nuevos préstamos compartidos de ese RUT, evitando que una cadena
+ * continua de lectores lo deje esperando indefinidamente. Cada flujo exclusivo cuenta su propia espera y la retira
+ * al obtener un RUT o al agotar el tiempo, sin afectar a otros flujos exclusivos que esperan el mismo RUT.
+ * </p>
+ *
+ * <p>Ejemplo de uso:</p>
+ * <pre>
+ * {@code
+ * try (RutLease lease = RutPool.shared().acquire(List.of("444444444", "258224612"), RutLease.Mode.EXCLUSIVE,
+ *         Duration.ofMinutes(10))) {
+ *     page.impersonalizador(lease.rut());
+ *     page.flujo1();
+ * }
+ * }
+ * </pre>
+ */
+public final class RutPool {
+
+    /**
+     * Estado sin préstamos activos.
+     */
+    private static final int FREE = 0;
+
+    /**
+     * Estado con un préstamo exclusivo activo.
+     */
+    private static final int EXCLUSIVE = -1;
+
+    /**
+     * Tiempo de espera máximo, en segundos, para obtener un RUT.
+     */
+    public static final long DEFAULT_TIME_OUT_SECONDS = 600L;
+
+    private static final long MIN_PARK_NANOS = Duration.ofMillis(1).toNanos();
+    private static final long MAX_PARK_NANOS = Duration.ofMillis(200).toNanos();
+
+    private static final RutPool SHARED = new RutPool();
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * Retorna el pool compartido por todas las pruebas de la JVM.
+     *
+     * @return la instancia compartida.
+     */
+    public static RutPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Obtiene un préstamo exclusivo del RUT indicado, esperando hasta {@link #DEFAULT_TIME_OUT_SECONDS}.
+     *
+     * @param rut el RUT a utilizar.
+     * @return el préstamo obtenido; debe cerrarse al terminar el flujo.
+     */
+    public RutLease exclusive(String rut) {
+        return acquire(rut, RutLease.Mode.EXCLUSIVE, Duration.ofSeconds(DEFAULT_TIME_OUT_SECONDS));
+    }
+
+    /**
+     * Obtiene un préstamo compartido del RUT indicado, esperando hasta {@link #DEFAULT_TIME_OUT_SECONDS}.
+     *
+     * @param rut el RUT a utilizar.
+     * @return el préstamo obtenido; debe cerrarse al terminar el flujo.
+     */
+    public RutLease shared(String rut) {
+        return acquire(rut, RutLease.Mode.SHARED, Duration.ofSeconds(DEFAULT_TIME_OUT_SECONDS));
+    }
+
+    /**
+     * Obtiene un préstamo del RUT indicado en el modo solicitado.
+     *
+     * @param rut     el RUT a utilizar.
+     * @param mode    el modo del préstamo.
+     * @param timeout tiempo máximo de espera.
+     * @return el préstamo obtenido; debe cerrarse al terminar el flujo.
+     * @throws IllegalStateException si no se obtiene el RUT dentro del tiempo indicado o si el hilo es interrumpido.
+     */
+    public RutLease acquire(String rut, RutLease.Mode mode, Duration timeout) {
+        return acquire(List.of(rut), mode, timeout);
+    }
+
+    /**
+     * Obtiene un préstamo de cualquiera de los RUT candidatos en el modo solicitado.
+     * La búsqueda comienza en una posición aleatoria para repartir la carga entre los candidatos.
+     *
+     * @param candidates los RUT que sirven para el flujo.
+     * @param mode       el modo del préstamo.
+     * @param timeout    tiempo máximo de espera.
+     * @return el préstamo obtenido; debe cerrarse al terminar el flujo.
+     * @throws IllegalStateException si no se obtiene ningún RUT dentro del tiempo indicado o si el hilo es
+     *                               interrumpido.
+     */
+    public RutLease acquire(List<String> candidates, RutLease.Mode mode, Duration timeout) {
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException(LogInfo.LOG_RUT_POOL_EMPTY);
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long park = MIN_PARK_NANOS;
+        int offset = ThreadLocalRandom.current().nextInt(candidates.size());
+        boolean waitingLogged = false;
+        // RUT en los que este flujo anunció su espera; se retiran siempre al salir
+        Set<Slot> announced = new HashSet<>();
+
+        try {
+            while (true) {
+                for (int i = 0; i < candidates.size(); i++) {
+                    String rut = candidates.get((offset + i) % candidates.size());
+                    Slot slot = slot(rut);
+
+                    if (mode == RutLease.Mode.SHARED ? slot.tryShared() : slot.tryExclusive()) {
+                        Log.info(LogInfo.LOG_RUT_POOL_ACQUIRED + rut + " (" + mode + ")");
+                        return new RutLease(this, rut, mode);
+                    }
+                    if (mode == RutLease.Mode.EXCLUSIVE && announced.add(slot)) {
+                        // Se anuncia la espera para que no entren nuevos lectores; se reintenta cuando salgan
+                        slot.waitingWriters.incrementAndGet();
+                    }
+                }
+
+                if (!waitingLogged) {
+                    Log.info(LogInfo.LOG_RUT_POOL_WAITING + candidates + " (" + mode + ")");
+                    waitingLogged = true;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+                    throw new IllegalStateException(LogInfo.LOG_RUT_POOL_TIME_OUT + candidates);
+                }
+
+                LockSupport.parkNanos(Math.min(park, remaining));
+                park = Math.min(park * 2, MAX_PARK_NANOS);
+            }
+        } finally {
+            announced.forEach(slot -> slot.waitingWriters.decrementAndGet());
+        }
+    }
+
+    private Slot slot(String rut) {
+        return slots.computeIfAbsent(rut, key -> new Slot());
+    }
+
+    /**
+     * Retorna la cantidad de flujos exclusivos que esperan el RUT; usado por las pruebas del pool.
+     */
+    int waitingWriters(String rut) {
+        return slot(rut).waitingWriters.get();
+    }
+
+    /**
+     * Libera el préstamo; es invocado por {@link RutLease#close()}.
+     */
+    void release(RutLease lease) {
+        Slot slot = slots.get(lease.rut());
+        if (lease.mode() == RutLease.Mode.EXCLUSIVE) {
+            slot.holders.set(FREE);
+        } else {
+            slot.holders.decrementAndGet();
+        }
+        Log.info(LogInfo.LOG_RUT_POOL_RELEASED + lease.rut() + " (" + lease.mode() + ")");
+    }
+
+    /**
+     * Estado de un RUT: los préstamos activos ({@link #EXCLUSIVE} o la cantidad de préstamos compartidos) y la
+     * cantidad de flujos exclusivos que lo esperan.
+     */
+    private static final class Slot {
+        private final AtomicInteger holders = new AtomicInteger(FREE);
+        private final AtomicInteger waitingWriters = new AtomicInteger();
+
+        boolean tryShared() {
+            while (true) {
+                int current = holders.get();
+                if (current == EXCLUSIVE || waitingWriters.get() > 0) {
+                    return false;
+                }
+                if (holders.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean tryExclusive() {
+            return holders.compareAndSet(FREE, EXCLUSIVE);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package utils;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.*;
+
+/**
+ * Pruebas de los modos de préstamo, la preferencia de los flujos exclusivos y el retiro de sus esperas en
+ * {@link RutPool}.
+ */
+public class RutPoolTest {
+
+    private static final String RUT_A = "111111111";
+    private static final String RUT_B = "222222222";
+    private static final Duration SHORT = Duration.ofMillis(100);
+    private static final Duration LONG = Duration.ofSeconds(10);
+
+    private RutPool pool;
+    private ExecutorService executor;
+    private final List<RutLease> leases = new ArrayList<>();
+
+    @BeforeMethod
+    public void setUp() {
+        pool = new RutPool();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        leases.forEach(RutLease::close);
+        leases.clear();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void sharedLeasesCoexist() {
+        RutLease first = lease(RUT_A, RutLease.Mode.SHARED, SHORT);
+        RutLease second = lease(RUT_A, RutLease.Mode.SHARED, SHORT);
+
+        assertEquals(first.rut(), RUT_A);
+        assertEquals(second.rut(), RUT_A);
+    }
+
+    @Test
+    public void exclusiveLeaseExcludesSharedAndExclusive() {
+        RutLease exclusive = lease(RUT_A, RutLease.Mode.EXCLUSIVE, SHORT);
+
+        assertThrows(IllegalStateException.class, () -> pool.acquire(RUT_A, RutLease.Mode.SHARED, SHORT));
+        assertThrows(IllegalStateException.class, () -> pool.acquire(RUT_A, RutLease.Mode.EXCLUSIVE, SHORT));
+
+        exclusive.close();
+        assertEquals(lease(RUT_A, RutLease.Mode.SHARED, SHORT).rut(), RUT_A);
+    }
+
+    @Test
+    public void exclusiveLeaseWaitsForSharedLeases() {
+        RutLease shared = lease(RUT_A, RutLease.Mode.SHARED, SHORT);
+
+        assertThrows(IllegalStateException.class, () -> pool.acquire(RUT_A, RutLease.Mode.EXCLUSIVE, SHORT));
+        shared.close();
+        assertEquals(lease(RUT_A, RutLease.Mode.EXCLUSIVE, SHORT).mode(), RutLease.Mode.EXCLUSIVE);
+    }
+
+    @Test
+    public void acquireReturnsAnyAvailableCandidate() {
+        lease(RUT_A, RutLease.Mode.EXCLUSIVE, SHORT);
+
+        RutLease lease = lease(List.of(RUT_A, RUT_B), RutLease.Mode.SHARED, SHORT);
+
+        assertEquals(lease.rut(), RUT_B);
+    }
+
+    @Test
+    public void waitingWriterBlocksNewSharedLeases() throws Exception {
+        RutLease reader = lease(RUT_A, RutLease.Mode.SHARED, SHORT);
+        Future<RutLease> writer = executor.submit(() -> pool.acquire(RUT_A, RutLease.Mode.EXCLUSIVE, LONG));
+        await(() -> pool.waitingWriters(RUT_A) == 1);
+
+        assertThrows(IllegalStateException.class, () -> pool.acquire(RUT_A, RutLease.Mode.SHARED, SHORT));
+
+        reader.close();
+        RutLease exclusive = writer.get(LONG.toMillis(), TimeUnit.MILLISECONDS);
+        leases.add(exclusive);
+        assertEquals(exclusive.mode(), RutLease.Mode.EXCLUSIVE);
+        assertEquals(pool.waitingWriters(RUT_A), 0);
+    }
+
+    @Test
+    public void timedOutWriterWithdrawsItsWait() {
+        lease(RUT_A, RutLease.Mode.SHARED, SHORT);
+
+        assertThrows(IllegalStateException.class, () -> pool.acquire(RUT_A, RutLease.Mode.EXCLUSIVE, SHORT));
+
+        assertEquals(pool.waitingWriters(RUT_A), 0);
+        assertEquals(lease(RUT_A, RutLease.Mode.SHARED, SHORT).rut(), RUT_A);
+    }
+
+    @Test
+    public void writerWinningOtherCandidateKeepsOtherWritersWait() throws Exception {
+        RutLease readerA = lease(RUT_A, RutLease.Mode.SHARED, SHORT);
+        RutLease readerB = lease(RUT_B, RutLease.Mode.SHARED, SHORT);
+        Future<RutLease> writerA = executor.submit(() -> pool.acquire(RUT_A, RutLease.Mode.EXCLUSIVE, LONG));
+        Future<RutLease> writerAB = executor.submit(
+                () -> pool.acquire(List.of(RUT_A, RUT_B), RutLease.Mode.EXCLUSIVE, LONG));
+        await(() -> pool.waitingWriters(RUT_A) == 2 && pool.waitingWriters(RUT_B) == 1);
+
+        // El segundo flujo obtiene RUT_B y retira solo su propia espera sobre RUT_A
+        readerB.close();
+        RutLease wonB = writerAB.get(LONG.toMillis(), TimeUnit.MILLISECONDS);
+        leases.add(wonB);
+        assertEquals(wonB.rut(), RUT_B);
+        assertEquals(pool.waitingWriters(RUT_A), 1);
+        assertThrows(IllegalStateException.class, () -> pool.acquire(RUT_A, RutLease.Mode.SHARED, SHORT));
+
+        readerA.close();
+        RutLease wonA = writerA.get(LONG.toMillis(), TimeUnit.MILLISECONDS);
+        leases.add(wonA);
+        assertEquals(wonA.rut(), RUT_A);
+    }
+
+    @Test
+    public void timedOutWriterKeepsOtherWritersWait() throws Exception {
+        lease(RUT_A, RutLease.Mode.SHARED, SHORT);
+        Future<RutLease> patient = executor.submit(() -> pool.acquire(RUT_A, RutLease.Mode.EXCLUSIVE, LONG));
+        await(() -> pool.waitingWriters(RUT_A) == 1);
+
+        assertThrows(IllegalStateException.class, () -> pool.acquire(RUT_A, RutLease.Mode.EXCLUSIVE, SHORT));
+
+        assertEquals(pool.waitingWriters(RUT_A), 1);
+        assertThrows(IllegalStateException.class, () -> pool.acquire(RUT_A, RutLease.Mode.SHARED, SHORT));
+        assertFalse(patient.isDone());
+    }
+
+    private RutLease lease(String rut, RutLease.Mode mode, Duration timeout) {
+        return lease(List.of(rut), mode, timeout);
+    }
+
+    private RutLease lease(List<String> candidates, RutLease.Mode mode, Duration timeout) {
+        RutLease lease = pool.acquire(candidates, mode, timeout);
+        leases.add(lease);
+        return lease;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + LONG.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "La condición no se cumplió a tiempo");
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+}